@@ -0,0 +1,87 @@
+package com.github.renanh.benchmarks;
+
+import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * callme-service request paths. The delay path goes through {@code pingWithRandomDelayAsync}
+ * with a scheduler that runs the completion inline, so what is measured is the JFR event,
+ * id generation and formatting around the delay rather than the delay itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallmeServiceBenchmark {
+
+    private InlineScheduler scheduler;
+    private CallmeService callmeService;
+
+    @Setup
+    public void setUp() {
+        scheduler = new InlineScheduler();
+        callmeService = new CallmeService(new ServiceProperties(), scheduler, defaultFaults());
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Benchmark
+    public String ping() {
+        return callmeService.ping();
+    }
+
+    @Benchmark
+    public Object pingWithRandomError() {
+        try {
+            return callmeService.pingWithRandomError();
+        } catch (ResponseStatusException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public String pingWithRandomDelay() {
+        return callmeService.pingWithRandomDelayAsync().join();
+    }
+
+    static FaultInjector defaultFaults() {
+        return new FaultInjector(FaultGenerator.unseeded(), new ServiceProperties().getFault().toFaultProfiles());
+    }
+
+    /** Runs scheduled tasks on the calling thread, ignoring the delay. */
+    static final class InlineScheduler extends ScheduledThreadPoolExecutor {
+
+        InlineScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            command.run();
+            return null;
+        }
+    }
+}
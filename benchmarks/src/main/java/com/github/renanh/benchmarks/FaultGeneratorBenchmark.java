@@ -0,0 +1,49 @@
+package com.github.renanh.benchmarks;
+
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fault decisions of one request (an error coin flip and a delay draw) with 64 threads sharing
+ * one source. {@code secureRandom} is the shared instance callme-service used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class FaultGeneratorBenchmark {
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final FaultGenerator unseeded = FaultGenerator.unseeded();
+    private final FaultGenerator seeded = FaultGenerator.seeded(42);
+
+    @Benchmark
+    public int secureRandom() {
+        return secureRandom.nextBoolean() ? -1 : secureRandom.nextInt(3001);
+    }
+
+    @Benchmark
+    public int unseeded() {
+        return unseeded.nextBoolean() ? -1 : unseeded.nextInt(3001);
+    }
+
+    @Benchmark
+    public int seeded() {
+        return seeded.nextBoolean() ? -1 : seeded.nextInt(3001);
+    }
+}
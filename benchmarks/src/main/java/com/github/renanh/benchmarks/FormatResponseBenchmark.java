@@ -0,0 +1,101 @@
+package com.github.renanh.benchmarks;
+
+import com.github.renanh.caller.domain.service.CallerService;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.first.domain.service.FirstService;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response formatting of each hop. {@code formatResponse} is private, so it is reached through
+ * {@code ping()} with the downstream client stubbed to return a constant chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatResponseBenchmark {
+
+    private FirstService firstService;
+    private CallerService callerService;
+    private CallmeService callmeService;
+
+    @Setup
+    public void setUp() {
+        firstService = new FirstService(new StubCallerServiceClient(),
+                new com.github.renanh.first.infrastructure.config.ServiceProperties());
+        callerService = new CallerService(new StubCallmeServiceClient(),
+                new com.github.renanh.caller.infrastructure.config.ServiceProperties());
+        callmeService = new CallmeService(new com.github.renanh.callme.infrastructure.config.ServiceProperties(),
+                new CallmeServiceBenchmark.InlineScheduler(), CallmeServiceBenchmark.defaultFaults());
+    }
+
+    @Benchmark
+    public String first() {
+        return firstService.ping();
+    }
+
+    @Benchmark
+    public String caller() {
+        return callerService.ping();
+    }
+
+    @Benchmark
+    public String callme() {
+        return callmeService.ping();
+    }
+
+    static final class StubCallerServiceClient implements CallerServiceClient {
+
+        private static final String CHAIN = "caller-service(v1) -> callme-service(v1)";
+
+        @Override
+        public String ping() {
+            return CHAIN;
+        }
+
+        @Override
+        public String pingWithRandomError() {
+            return CHAIN;
+        }
+
+        @Override
+        public String pingWithRandomDelay() {
+            return CHAIN;
+        }
+    }
+
+    static final class StubCallmeServiceClient implements CallmeServiceClient {
+
+        private static final String CHAIN = "callme-service(v1)";
+
+        @Override
+        public String ping() {
+            return CHAIN;
+        }
+
+        @Override
+        public String pingWithRandomError() {
+            return CHAIN;
+        }
+
+        @Override
+        public String pingWithRandomDelay() {
+            return CHAIN;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.renanh.benchmarks;
+
+import com.github.renanh.first.api.dto.PingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PingResponseBenchmark {
+
+    private String message = "first-service(v1) -> caller-service(v1) -> callme-service(v1)";
+    private String version = "v1";
+    private String blank = " ";
+
+    @Benchmark
+    public PingResponse of() {
+        return PingResponse.of(message, version);
+    }
+
+    @Benchmark
+    public Object rejectBlankMessage() {
+        try {
+            return PingResponse.of(blank, version);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
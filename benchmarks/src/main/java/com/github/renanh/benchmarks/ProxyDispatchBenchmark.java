@@ -0,0 +1,158 @@
+package com.github.renanh.benchmarks;
+
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.config.RestClientConfig;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of calling callme-service through the {@code @HttpExchange} proxy:
+ * <ul>
+ *   <li>{@code dispatchOnly}: proxy over an in-memory adapter, no HTTP at all</li>
+ *   <li>{@code restClient}: hand-written RestClient call against an in-process Netty stub</li>
+ *   <li>{@code proxy}: the same call through a bare HttpServiceProxyFactory proxy</li>
+ *   <li>{@code configuredProxy}: the client built by caller-service's RestClientConfig,
+ *       with its pooled connector and (disabled) resilience decorators</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyDispatchBenchmark {
+
+    private static final String BODY = "callme-service(v1)";
+
+    private DisposableServer server;
+    private ExecutorService clientExecutor;
+    private LoopResources loopResources;
+    private ConnectionProvider connectionProvider;
+
+    private CallmeServiceClient inMemoryProxy;
+    private RestClient restClient;
+    private CallmeServiceClient proxy;
+    private CallmeServiceClient configuredProxy;
+
+    @Setup
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/callme/{endpoint}", (request, response) ->
+                        response.header("Content-Type", "text/plain").sendString(Mono.just(BODY))))
+                .bindNow();
+
+        var properties = new CallmeClientProperties();
+        properties.setUrl("http://127.0.0.1:" + server.port());
+        var config = new RestClientConfig(properties);
+        var meterRegistry = new SimpleMeterRegistry();
+
+        clientExecutor = config.callmeClientExecutor(new StandardEnvironment());
+        loopResources = config.callmeLoopResources();
+        connectionProvider = config.callmeConnectionProvider();
+        restClient = config.callmeRestClient(connectionProvider, loopResources, clientExecutor,
+                config.callmeLoadBalancer(meterRegistry), meterRegistry, new ServiceProperties());
+
+        inMemoryProxy = HttpServiceProxyFactory.builderFor(new InMemoryExchangeAdapter()).build()
+                .createClient(CallmeServiceClient.class);
+        proxy = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build()
+                .createClient(CallmeServiceClient.class);
+        configuredProxy = config.callmeServiceClient(restClient, clientExecutor, meterRegistry, "benchmarks");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.disposeNow();
+        connectionProvider.dispose();
+        loopResources.dispose();
+        clientExecutor.close();
+    }
+
+    @Benchmark
+    public String dispatchOnly() {
+        return inMemoryProxy.ping();
+    }
+
+    @Benchmark
+    public String restClient() {
+        return restClient.get().uri("/callme/ping").retrieve().body(String.class);
+    }
+
+    @Benchmark
+    public String proxy() {
+        return proxy.ping();
+    }
+
+    @Benchmark
+    public String configuredProxy() {
+        return configuredProxy.ping();
+    }
+
+    /** Answers every exchange with a constant body, isolating the proxy's argument resolution. */
+    static final class InMemoryExchangeAdapter implements HttpExchangeAdapter {
+
+        @Override
+        public boolean supportsRequestAttributes() {
+            return true;
+        }
+
+        @Override
+        public void exchange(HttpRequestValues requestValues) {
+        }
+
+        @Override
+        public HttpHeaders exchangeForHeaders(HttpRequestValues requestValues) {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+            return (T) BODY;
+        }
+
+        @Override
+        public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues requestValues) {
+            return ResponseEntity.ok().build();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues requestValues,
+                                                       ParameterizedTypeReference<T> bodyType) {
+            return ResponseEntity.ok((T) BODY);
+        }
+    }
+}
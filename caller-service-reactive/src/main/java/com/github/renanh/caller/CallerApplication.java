@@ -0,0 +1,12 @@
+package com.github.renanh.caller;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CallerApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CallerApplication.class, args);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.renanh.caller.api.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Relays the downstream status instead of collapsing every failure into a 500, so upstream
+     * hops can tell a retryable 504 from a genuine server error.
+     */
+    @ExceptionHandler(WebClientResponseException.class)
+    public ResponseEntity<String> handleDownstreamError(WebClientResponseException ex) {
+        log.warn("Downstream call failed, status={}", ex.getStatusCode());
+        return ResponseEntity.status(ex.getStatusCode()).body(ex.getResponseBodyAsString());
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.renanh.caller.api.resource;
+
+import com.github.renanh.caller.domain.service.CallerService;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/caller")
+@Tag(name = "Caller Service", description = "Middle layer service that calls callme-service")
+@RequiredArgsConstructor
+public class CallerResource {
+
+    private final CallerService callerService;
+    private final ServiceProperties serviceProperties;
+
+    @GetMapping("/ping")
+    @Operation(summary = "Ping callme-service",
+            description = "Calls callme-service and returns the response chain")
+    public Mono<ResponseEntity<String>> ping() {
+        var maxAge = serviceProperties.getPingCacheMaxAge();
+        var cacheControl = maxAge.isPositive() ? CacheControl.maxAge(maxAge) : CacheControl.empty();
+        return callerService.ping().map(body -> ResponseEntity.ok().cacheControl(cacheControl).body(body));
+    }
+
+    @GetMapping("/ping-with-random-error")
+    @Operation(summary = "Ping with random error",
+            description = "Calls callme-service endpoint that randomly returns errors")
+    public Mono<ResponseEntity<String>> pingWithRandomError() {
+        return callerService.pingWithRandomError().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-with-random-delay")
+    @Operation(summary = "Ping with random delay",
+            description = "Calls callme-service endpoint that has random processing delay")
+    public Mono<ResponseEntity<String>> pingWithRandomDelay() {
+        return callerService.pingWithRandomDelay().map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.renanh.caller.domain.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+@Name("ProcessingEvent")
+@Label("Processing Event")
+@Category("Sample Istio Services")
+@Description("Records processing time for request handling, including the downstream call")
+@Getter
+@Setter
+public class ProcessingEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("Endpoint that handled the request")
+    private String endpoint;
+
+    @Label("Status")
+    @Description("Processing status (SUCCESS, ERROR, CANCELLED)")
+    private String status;
+}
@@ -0,0 +1,62 @@
+package com.github.renanh.caller.domain.service;
+
+import com.github.renanh.caller.domain.event.ProcessingEvent;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+public class CallerService {
+
+    private final CallmeServiceClient callmeServiceClient;
+    private final String version;
+
+    // The version is fixed at startup, so only the downstream part of the response is appended per request
+    private final String responsePrefix;
+
+    public CallerService(CallmeServiceClient callmeServiceClient, ServiceProperties serviceProperties) {
+        this.callmeServiceClient = callmeServiceClient;
+        this.version = serviceProperties.getVersion();
+        this.responsePrefix = "caller-service(" + version + ") -> ";
+    }
+
+    public Mono<String> ping() {
+        log.debug("Received ping request, version={}", version);
+        return record("ping", callmeServiceClient.ping());
+    }
+
+    public Mono<String> pingWithRandomError() {
+        log.debug("Received ping-with-random-error request, version={}", version);
+        return record("ping-with-random-error", callmeServiceClient.pingWithRandomError());
+    }
+
+    public Mono<String> pingWithRandomDelay() {
+        log.debug("Received ping-with-random-delay request, version={}", version);
+        return record("ping-with-random-delay", callmeServiceClient.pingWithRandomDelay());
+    }
+
+    private Mono<String> record(String endpoint, Mono<String> downstreamCall) {
+        return Mono.defer(() -> {
+            var processingEvent = new ProcessingEvent();
+            processingEvent.begin();
+            return downstreamCall.map(this::formatResponse)
+                    .doOnSuccess(response -> processingEvent.setStatus("SUCCESS"))
+                    .doOnError(ex -> processingEvent.setStatus("ERROR"))
+                    .doOnCancel(() -> processingEvent.setStatus("CANCELLED"))
+                    .doFinally(signal -> {
+                        processingEvent.end();
+                        if (processingEvent.shouldCommit()) {
+                            processingEvent.setEndpoint(endpoint);
+                            processingEvent.commit();
+                        }
+                    });
+        });
+    }
+
+    private String formatResponse(String callmeResponse) {
+        return responsePrefix.concat(callmeResponse);
+    }
+}
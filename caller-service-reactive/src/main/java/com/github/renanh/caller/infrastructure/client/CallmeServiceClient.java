@@ -0,0 +1,18 @@
+package com.github.renanh.caller.infrastructure.client;
+
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
+
+@HttpExchange("/callme")
+public interface CallmeServiceClient {
+
+    @GetExchange("/ping")
+    Mono<String> ping();
+
+    @GetExchange("/ping-with-random-error")
+    Mono<String> pingWithRandomError();
+
+    @GetExchange("/ping-with-random-delay")
+    Mono<String> pingWithRandomDelay();
+}
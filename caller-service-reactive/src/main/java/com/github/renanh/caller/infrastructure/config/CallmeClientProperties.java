@@ -0,0 +1,51 @@
+package com.github.renanh.caller.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "services.callme")
+@Getter
+@Setter
+public class CallmeClientProperties {
+
+    private String url = "http://callme-service:8080";
+    private int timeout = 5000;
+    private int connectTimeout = 1000;
+
+    /**
+     * [HTTP11] for plain HTTP/1.1 keep-alive, [H2C] for HTTP/2 prior-knowledge,
+     * [HTTP11, H2C] for HTTP/1.1 with an h2c upgrade attempt.
+     */
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+
+    private final Pool pool = new Pool();
+    private final EventLoop eventLoop = new EventLoop();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxConnections = 100;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private int maxConcurrentStreams = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class EventLoop {
+
+        /** Number of I/O threads; 0 uses one per available processor. */
+        private int threads = 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.renanh.caller.infrastructure.config;
+
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.ConnectionChurnObserver;
+import com.github.renanh.caller.infrastructure.observability.HopTimingExchangeFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebClientConfig {
+
+    private final CallmeClientProperties callmeClientProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources callmeLoopResources() {
+        int threads = callmeClientProperties.getEventLoop().getThreads();
+        return LoopResources.create("callme-client-io",
+                threads > 0 ? threads : LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider callmeConnectionProvider() {
+        var pool = callmeClientProperties.getPool();
+        var builder = ConnectionProvider.builder("callme")
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (callmeClientProperties.getProtocols().contains(HttpProtocol.H2C)) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        } else {
+            builder.maxConnections(pool.getMaxConnections());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public WebClient callmeWebClient(ConnectionProvider callmeConnectionProvider,
+                                     LoopResources callmeLoopResources,
+                                     MeterRegistry meterRegistry) {
+        var httpClient = HttpClient.create(callmeConnectionProvider)
+                .runOn(callmeLoopResources)
+                .protocol(callmeClientProperties.getProtocols().toArray(HttpProtocol[]::new))
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, callmeClientProperties.getConnectTimeout())
+                .responseTimeout(Duration.ofMillis(callmeClientProperties.getTimeout()))
+                .observe(new ConnectionChurnObserver("callme", meterRegistry))
+                .metrics(true, Function.identity());
+
+        return WebClient.builder()
+                .baseUrl(callmeClientProperties.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new HopTimingExchangeFilter())
+                .build();
+    }
+
+    @Bean
+    public CallmeServiceClient callmeServiceClient(WebClient callmeWebClient) {
+        var factory = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(callmeWebClient)).build();
+        return factory.createClient(CallmeServiceClient.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.renanh.caller.infrastructure.observability;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stamps outbound requests with {@link HopTiming#REQUEST_START_HEADER} and adds the time until the
+ * response arrives to the calling request's {@link HopTiming}, when there is one in the context.
+ */
+public class HopTimingExchangeFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            var stamped = ClientRequest.from(request)
+                    .header(HopTiming.REQUEST_START_HEADER, HopTiming.requestStartHeaderValue())
+                    .build();
+            HopTiming timing = context.getOrDefault(HopTiming.CONTEXT_KEY, null);
+            if (timing == null) {
+                return next.exchange(stamped);
+            }
+            long start = System.nanoTime();
+            return next.exchange(stamped)
+                    .doFinally(signal -> timing.addDownstream(System.nanoTime() - start));
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.domain.service.CallerService;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Caller Service (reactive)")
+class CallerServiceTests {
+
+    @Mock
+    private CallmeServiceClient callmeServiceClient;
+
+    @Mock
+    private ServiceProperties serviceProperties;
+
+    private CallerService callerService;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceProperties.getVersion()).thenReturn("v1");
+        callerService = new CallerService(callmeServiceClient, serviceProperties);
+    }
+
+    @Nested
+    @DisplayName("ping()")
+    class PingMethod {
+
+        @Test
+        @DisplayName("Deve retornar resposta formatada com cadeia de serviços")
+        void shouldReturnFormattedResponse() {
+            when(callmeServiceClient.ping()).thenReturn(Mono.just("callme-service(v1)"));
+
+            StepVerifier.create(callerService.ping())
+                    .expectNext("caller-service(v1) -> callme-service(v1)")
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("pingWithRandomError()")
+    class PingWithRandomErrorMethod {
+
+        @Test
+        @DisplayName("Deve propagar o erro do downstream")
+        void shouldPropagateDownstreamError() {
+            when(callmeServiceClient.pingWithRandomError()).thenReturn(Mono.error(
+                    WebClientResponseException.create(HttpStatus.GATEWAY_TIMEOUT.value(), "Gateway Timeout", null, null, null)));
+
+            StepVerifier.create(callerService.pingWithRandomError())
+                    .expectError(WebClientResponseException.GatewayTimeout.class)
+                    .verify();
+        }
+    }
+}
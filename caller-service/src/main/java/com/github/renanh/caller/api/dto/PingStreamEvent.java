@@ -0,0 +1,42 @@
+package com.github.renanh.caller.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Map;
+
+/** One line of a ping stream: the result of a single call, or a summary of the last window. */
+@JsonPropertyOrder("type")
+public sealed interface PingStreamEvent {
+
+    /** Also the SSE event name. */
+    @JsonProperty("type")
+    String type();
+
+    /**
+     * Outcome of one downstream call. {@code lagMillis} is how late it was sent against the requested
+     * rate, and {@code hops} holds the {@code Server-Timing} durations reported along the chain.
+     */
+    record Call(long sequence, String status, double latencyMillis, double lagMillis,
+                Map<String, Double> hops) implements PingStreamEvent {
+
+        @Override
+        public String type() {
+            return "call";
+        }
+    }
+
+    /**
+     * Calls completed since the previous window, with their latency percentiles; dropped calls only
+     * count in {@code statuses}.
+     */
+    record Window(long sequence, double elapsedSeconds, long calls, double callsPerSecond,
+                  Map<String, Long> statuses, double p50, double p90, double p99, double max)
+            implements PingStreamEvent {
+
+        @Override
+        public String type() {
+            return "window";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.renanh.caller.api.handler;
+
+import com.github.renanh.caller.domain.exception.InvalidStreamRequestException;
+import com.github.renanh.caller.domain.exception.StreamLimitExceededException;
+import com.github.renanh.caller.infrastructure.client.bulkhead.BulkheadFullException;
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CallNotPermittedException;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpStatusCodeException;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Relays the downstream status instead of collapsing every failure into a 500, so upstream
+     * hops can tell a retryable 504 from a genuine server error.
+     */
+    @ExceptionHandler(HttpStatusCodeException.class)
+    public ResponseEntity<String> handleDownstreamError(HttpStatusCodeException ex) {
+        log.warn("Downstream call failed, status={}", ex.getStatusCode());
+        return ResponseEntity.status(ex.getStatusCode()).body(ex.getResponseBodyAsString());
+    }
+
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<String> handleCallNotPermitted(CallNotPermittedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<String> handleDeadlineExceeded(DeadlineExceededException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidStreamRequestException.class)
+    public ResponseEntity<String> handleInvalidStreamRequest(InvalidStreamRequestException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(StreamLimitExceededException.class)
+    public ResponseEntity<String> handleStreamLimitExceeded(StreamLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+}
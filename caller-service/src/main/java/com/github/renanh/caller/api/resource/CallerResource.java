@@ -1,13 +1,20 @@
 package com.github.renanh.caller.api.resource;
 
 import com.github.renanh.caller.domain.service.CallerService;
+import com.github.renanh.caller.domain.service.StreamingPingService;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/caller")
@@ -16,12 +23,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class CallerResource {
 
     private final CallerService callerService;
+    private final ServiceProperties serviceProperties;
+    private final StreamingPingService streamingPingService;
 
     @GetMapping("/ping")
     @Operation(summary = "Ping callme-service",
             description = "Calls callme-service and returns the response chain")
     public ResponseEntity<String> ping() {
-        return ResponseEntity.ok(callerService.ping());
+        var maxAge = serviceProperties.getPingCacheMaxAge();
+        var cacheControl = maxAge.isPositive() ? CacheControl.maxAge(maxAge) : CacheControl.empty();
+        return ResponseEntity.ok().cacheControl(cacheControl).body(callerService.ping());
     }
 
     @GetMapping("/ping-with-random-error")
@@ -37,4 +48,29 @@ public class CallerResource {
     public ResponseEntity<String> pingWithRandomDelay() {
         return ResponseEntity.ok(callerService.pingWithRandomDelay());
     }
+
+    @GetMapping(value = "/ping-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Ping stream (SSE)",
+            description = "Calls callme-service at a fixed rate and streams each result with its per-hop timing, "
+                    + "plus a throughput and latency summary per window, as server-sent events")
+    public SseEmitter pingStreamEvents(
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer rate,
+            @RequestParam(required = false) Integer seconds,
+            @RequestParam(required = false) Integer concurrency) {
+        return streamingPingService.streamEvents(endpoint, rate, seconds, concurrency);
+    }
+
+    @GetMapping(value = "/ping-stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Ping stream (NDJSON)",
+            description = "Same as the SSE variant, one JSON object per line over a chunked response")
+    public ResponseEntity<ResponseBodyEmitter> pingStream(
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer rate,
+            @RequestParam(required = false) Integer seconds,
+            @RequestParam(required = false) Integer concurrency) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamingPingService.streamLines(endpoint, rate, seconds, concurrency));
+    }
 }
@@ -0,0 +1,9 @@
+package com.github.renanh.caller.domain.exception;
+
+/** A ping-stream parameter is out of range; the message is safe to return to the client. */
+public class InvalidStreamRequestException extends RuntimeException {
+
+    public InvalidStreamRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,38 +1,64 @@
 package com.github.renanh.caller.domain.service;
 
+import com.github.renanh.caller.domain.event.ProcessingEvent;
 import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
 import com.github.renanh.caller.infrastructure.config.ServiceProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CallerService {
 
     private final CallmeServiceClient callmeServiceClient;
-    private final ServiceProperties serviceProperties;
+    private final String version;
+
+    // The version is fixed at startup, so only the downstream part of the response is appended per request
+    private final String responsePrefix;
+
+    public CallerService(CallmeServiceClient callmeServiceClient, ServiceProperties serviceProperties) {
+        this.callmeServiceClient = callmeServiceClient;
+        this.version = serviceProperties.getVersion();
+        this.responsePrefix = "caller-service(" + version + ") -> ";
+    }
 
     public String ping() {
-        log.info("Received ping request, version={}", serviceProperties.getVersion());
-        String response = callmeServiceClient.ping();
-        return formatResponse(response);
+        log.debug("Received ping request, version={}", version);
+        return record("ping", callmeServiceClient::ping);
     }
 
     public String pingWithRandomError() {
-        log.info("Received ping-with-random-error request, version={}", serviceProperties.getVersion());
-        String response = callmeServiceClient.pingWithRandomError();
-        return formatResponse(response);
+        log.debug("Received ping-with-random-error request, version={}", version);
+        return record("ping-with-random-error", callmeServiceClient::pingWithRandomError);
     }
 
     public String pingWithRandomDelay() {
-        log.info("Received ping-with-random-delay request, version={}", serviceProperties.getVersion());
-        String response = callmeServiceClient.pingWithRandomDelay();
-        return formatResponse(response);
+        log.debug("Received ping-with-random-delay request, version={}", version);
+        return record("ping-with-random-delay", callmeServiceClient::pingWithRandomDelay);
+    }
+
+    private String record(String endpoint, Supplier<String> downstreamCall) {
+        var processingEvent = new ProcessingEvent();
+        processingEvent.begin();
+        try {
+            String response = formatResponse(downstreamCall.get());
+            processingEvent.setStatus("SUCCESS");
+            return response;
+        } catch (RuntimeException e) {
+            processingEvent.setStatus("ERROR");
+            throw e;
+        } finally {
+            processingEvent.end();
+            if (processingEvent.shouldCommit()) {
+                processingEvent.setEndpoint(endpoint);
+                processingEvent.commit();
+            }
+        }
     }
 
     private String formatResponse(String callmeResponse) {
-        return String.format("caller-service(%s) -> %s", serviceProperties.getVersion(), callmeResponse);
+        return responsePrefix.concat(callmeResponse);
     }
 }
@@ -0,0 +1,337 @@
+package com.github.renanh.caller.domain.service;
+
+import com.github.renanh.caller.api.dto.PingStreamEvent;
+import com.github.renanh.caller.domain.exception.InvalidStreamRequestException;
+import com.github.renanh.caller.domain.exception.StreamLimitExceededException;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.bulkhead.BulkheadFullException;
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CallNotPermittedException;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import com.github.renanh.caller.infrastructure.observability.HopTiming;
+import com.github.renanh.caller.infrastructure.observability.ServerTiming;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Calls callme-service at a fixed rate for a while and streams every result, plus a summary per
+ * window, over one long-lived response. Calls are sent on schedule whether or not earlier ones
+ * have returned (open loop), so a slow chain shows up as latency instead of as a lower request
+ * rate; calls beyond the concurrency cap are reported as {@code dropped}. At most
+ * {@code max-streams} streams run at once; further ones are refused with a 503.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingPingService {
+
+    static final String TIMEOUT = "timeout";
+    static final String ERROR = "error";
+    static final String DROPPED = "dropped";
+
+    private static final AtomicLong STREAMS = new AtomicLong();
+
+    private final CallmeServiceClient callmeServiceClient;
+    private final ServiceProperties serviceProperties;
+    private final JsonMapper jsonMapper;
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    public SseEmitter streamEvents(String endpoint, Integer rate, Integer seconds, Integer concurrency) {
+        return start(endpoint, rate, seconds, concurrency, SseEmitter::new);
+    }
+
+    /** Same stream as {@link #streamEvents}, one JSON object per line. */
+    public ResponseBodyEmitter streamLines(String endpoint, Integer rate, Integer seconds, Integer concurrency) {
+        return start(endpoint, rate, seconds, concurrency, ResponseBodyEmitter::new);
+    }
+
+    private <E extends ResponseBodyEmitter> E start(String endpoint, Integer rate, Integer seconds,
+                                                    Integer concurrency, LongFunction<E> emitterFactory) {
+        var config = serviceProperties.getStream();
+        var target = PingEndpoint.fromPath(endpoint)
+                .orElseThrow(() -> new InvalidStreamRequestException("Unknown endpoint: " + endpoint));
+        int callsPerSecond = rate != null ? rate : config.getDefaultRate();
+        var duration = seconds != null ? Duration.ofSeconds(seconds) : config.getDefaultDuration();
+        int parallelism = concurrency != null ? concurrency : config.getDefaultConcurrency();
+
+        require(callsPerSecond >= 1 && callsPerSecond <= config.getMaxRate(),
+                "rate must be between 1 and %d", config.getMaxRate());
+        require(duration.isPositive() && duration.compareTo(config.getMaxDuration()) <= 0,
+                "seconds must be between 1 and %d", config.getMaxDuration().toSeconds());
+        require(parallelism >= 1 && parallelism <= config.getMaxConcurrency(),
+                "concurrency must be between 1 and %d", config.getMaxConcurrency());
+
+        log.debug("Starting ping stream, endpoint={}, rate={}, duration={}, concurrency={}",
+                target.path(), callsPerSecond, duration, parallelism);
+
+        if (activeStreams.incrementAndGet() > config.getMaxStreams()) {
+            activeStreams.decrementAndGet();
+            throw new StreamLimitExceededException(config.getMaxStreams());
+        }
+        try {
+            long timeoutMillis = duration.plus(config.getDrainTimeout()).plus(config.getWindow()).toMillis();
+            var emitter = emitterFactory.apply(timeoutMillis);
+            var stream = new PingStream(emitter, target, callsPerSecond, duration, parallelism);
+            emitter.onCompletion(stream::cancel);
+            emitter.onTimeout(stream::cancel);
+            emitter.onError(ex -> stream.cancel());
+            Thread.ofVirtual().name("ping-stream-" + STREAMS.incrementAndGet()).start(() -> {
+                try {
+                    stream.run();
+                } finally {
+                    activeStreams.decrementAndGet();
+                }
+            });
+            return emitter;
+        } catch (RuntimeException ex) {
+            activeStreams.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private static void require(boolean condition, String message, Object... args) {
+        if (!condition) {
+            throw new InvalidStreamRequestException(String.format(message, args));
+        }
+    }
+
+    private final class PingStream {
+
+        private final ResponseBodyEmitter emitter;
+        private final PingEndpoint target;
+        private final int callsPerSecond;
+        private final Duration duration;
+        private final Semaphore permits;
+        private final WindowStats window = new WindowStats();
+        private volatile boolean cancelled;
+
+        PingStream(ResponseBodyEmitter emitter, PingEndpoint target, int callsPerSecond, Duration duration,
+                   int parallelism) {
+            this.emitter = emitter;
+            this.target = target;
+            this.callsPerSecond = callsPerSecond;
+            this.duration = duration;
+            this.permits = new Semaphore(parallelism);
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        void run() {
+            var config = serviceProperties.getStream();
+            long start = System.nanoTime();
+            long endNanos = start + duration.toNanos();
+            long windowNanos = config.getWindow().toNanos();
+            long nextWindow = start + windowNanos;
+            long windowSequence = 0;
+            long sequence = 0;
+            long nextCall = start;
+
+            ExecutorService calls = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("ping-stream-call-", 0).factory());
+            try {
+                while (!cancelled && nextCall - endNanos < 0) {
+                    boolean windowDue = nextWindow - nextCall <= 0;
+                    parkUntil(windowDue ? nextWindow : nextCall);
+                    if (windowDue) {
+                        send(window.drain(windowSequence++, start));
+                        nextWindow += windowNanos;
+                        continue;
+                    }
+                    dispatch(calls, sequence++, nextCall);
+                    nextCall = start + sequence * 1_000_000_000L / callsPerSecond;
+                }
+                calls.shutdown();
+                if (!calls.awaitTermination(config.getDrainTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    log.debug("Ping stream drain timed out, cancelling the calls still in flight");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                calls.shutdownNow();
+            }
+            send(window.drain(windowSequence, start));
+            if (!cancelled) {
+                emitter.complete();
+            }
+        }
+
+        private void dispatch(ExecutorService calls, long sequence, long scheduledNanos) {
+            if (!permits.tryAcquire()) {
+                window.record(DROPPED, -1);
+                send(new PingStreamEvent.Call(sequence, DROPPED, 0, round(millisSince(scheduledNanos)), Map.of()));
+                return;
+            }
+            calls.execute(() -> {
+                try {
+                    send(call(sequence, scheduledNanos));
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        private PingStreamEvent.Call call(long sequence, long scheduledNanos) {
+            long callStart = System.nanoTime();
+            var timing = new HopTiming();
+            String status;
+            try {
+                timing.run(() -> target.call(callmeServiceClient));
+                status = String.valueOf(HttpStatus.OK.value());
+            } catch (HttpStatusCodeException ex) {
+                status = String.valueOf(ex.getStatusCode().value());
+            } catch (CallNotPermittedException | BulkheadFullException ex) {
+                status = String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value());
+            } catch (DeadlineExceededException ex) {
+                status = TIMEOUT;
+            } catch (RestClientException ex) {
+                status = Thread.currentThread().isInterrupted() ? TIMEOUT : ERROR;
+            } catch (RuntimeException ex) {
+                // anything else still has to show up in the event and in the window
+                log.debug("Ping stream call failed", ex);
+                status = ERROR;
+            }
+            double latencyMillis = millisSince(callStart);
+            window.record(status, latencyMillis);
+            return new PingStreamEvent.Call(sequence, status, round(latencyMillis),
+                    round((callStart - scheduledNanos) / 1_000_000.0),
+                    ServerTiming.parse(timing.downstreamServerTiming()));
+        }
+
+        private void send(PingStreamEvent event) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                String json = jsonMapper.writeValueAsString(event);
+                if (emitter instanceof SseEmitter sseEmitter) {
+                    sseEmitter.send(SseEmitter.event().name(event.type()).data(json));
+                } else {
+                    emitter.send(json + "\n", MediaType.APPLICATION_NDJSON);
+                }
+            } catch (JacksonException ex) {
+                log.warn("Could not serialize ping stream event {}", event, ex);
+            } catch (IOException | IllegalStateException ex) {
+                // the client went away or the emitter already timed out
+                cancel();
+            }
+        }
+    }
+
+    /** Results of the current window; drained by the stream's driver thread. */
+    private static final class WindowStats {
+
+        private final List<Double> latencies = new ArrayList<>();
+        private final Map<String, Long> statuses = new TreeMap<>();
+        private long startNanos = System.nanoTime();
+
+        synchronized void record(String status, double latencyMillis) {
+            statuses.merge(status, 1L, Long::sum);
+            if (!DROPPED.equals(status)) {
+                latencies.add(latencyMillis);
+            }
+        }
+
+        synchronized PingStreamEvent.Window drain(long sequence, long streamStartNanos) {
+            long now = System.nanoTime();
+            long calls = statuses.entrySet().stream()
+                    .filter(entry -> !DROPPED.equals(entry.getKey()))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            double seconds = Math.max(1e-9, (now - startNanos) / 1e9);
+            double[] sorted = latencies.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            var window = new PingStreamEvent.Window(sequence, round((now - streamStartNanos) / 1e9), calls,
+                    round(calls / seconds), new TreeMap<>(statuses), round(percentile(sorted, 0.50)),
+                    round(percentile(sorted, 0.90)), round(percentile(sorted, 0.99)),
+                    sorted.length == 0 ? 0 : round(sorted[sorted.length - 1]));
+            latencies.clear();
+            statuses.clear();
+            startNanos = now;
+            return window;
+        }
+
+        private static double percentile(double[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.clamp(rank, 0, sorted.length - 1)];
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /** Three decimals are enough for milliseconds and keep every line short. */
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    enum PingEndpoint {
+
+        PING("ping", CallmeServiceClient::ping),
+        RANDOM_ERROR("ping-with-random-error", CallmeServiceClient::pingWithRandomError),
+        RANDOM_DELAY("ping-with-random-delay", CallmeServiceClient::pingWithRandomDelay);
+
+        private final String path;
+        private final Function<CallmeServiceClient, String> call;
+
+        PingEndpoint(String path, Function<CallmeServiceClient, String> call) {
+            this.path = path;
+            this.call = call;
+        }
+
+        String path() {
+            return path;
+        }
+
+        String call(CallmeServiceClient client) {
+            return call.apply(client);
+        }
+
+        static Optional<PingEndpoint> fromPath(String path) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.path.equals(path))
+                    .findFirst();
+        }
+    }
+}
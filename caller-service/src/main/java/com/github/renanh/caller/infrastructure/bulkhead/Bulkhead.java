@@ -0,0 +1,94 @@
+package com.github.renanh.caller.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Semaphore isolation for one endpoint: at most {@code maxConcurrent} calls run at once, up to
+ * {@code maxQueued} more wait at most {@code maxWait} for a permit, and anything beyond that is
+ * rejected at once. Exposes {@code <prefix>.calls}, {@code .active}, {@code .queued} and
+ * {@code .saturation} meters.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter permitted;
+    private final Counter rejected;
+
+    public Bulkhead(String metricPrefix, Tags tags, int maxConcurrent, int maxQueued, Duration maxWait,
+                    MeterRegistry meterRegistry) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent);
+        this.permitted = calls(metricPrefix, tags, "permitted", meterRegistry);
+        this.rejected = calls(metricPrefix, tags, "rejected", meterRegistry);
+        Gauge.builder(metricPrefix + ".active", this, Bulkhead::active)
+                .description("Calls holding a bulkhead permit")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".queued", queued, AtomicInteger::get)
+                .description("Calls waiting for a bulkhead permit")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".saturation", this, bulkhead -> (double) bulkhead.active() / maxConcurrent)
+                .description("Share of the bulkhead permits in use")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /** Takes a permit, waiting only while the queue has room; every true must be followed by {@link #release()}. */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            permitted.increment();
+            return true;
+        }
+        if (maxQueued <= 0 || maxWaitNanos <= 0) {
+            rejected.increment();
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+        }
+        (acquired ? permitted : rejected).increment();
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private static Counter calls(String metricPrefix, Tags tags, String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder(metricPrefix + ".calls")
+                .description("Calls by bulkhead decision")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
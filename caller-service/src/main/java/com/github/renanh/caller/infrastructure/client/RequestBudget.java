@@ -0,0 +1,38 @@
+package com.github.renanh.caller.infrastructure.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps extra requests (hedges, retries) to a fraction of primary requests.
+ * Every primary request deposits {@code ratio} tokens, every extra request spends one, so
+ * amplification can never exceed {@code ratio} of the traffic plus a small burst.
+ */
+public class RequestBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final AtomicLong tokens;
+    private final long depositPerRequest;
+    private final long maxTokens;
+
+    public RequestBudget(double ratio, int burst) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxTokens = burst * SCALE;
+        this.tokens = new AtomicLong(maxTokens);
+    }
+
+    public void deposit() {
+        tokens.accumulateAndGet(depositPerRequest, (current, delta) -> Math.min(maxTokens, current + delta));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
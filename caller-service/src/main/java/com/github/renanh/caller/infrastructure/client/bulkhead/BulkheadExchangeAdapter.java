@@ -0,0 +1,88 @@
+package com.github.renanh.caller.infrastructure.client.bulkhead;
+
+import com.github.renanh.caller.infrastructure.bulkhead.Bulkhead;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caps the calls in flight per downstream method, so one slow method cannot hold every pooled
+ * connection while the others wait for a lease. The permit covers all retry attempts of a call;
+ * a full bulkhead fails fast with {@link BulkheadFullException}.
+ */
+public class BulkheadExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private final String clientName;
+    private final CallmeClientProperties.Bulkhead config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                   CallmeClientProperties.Bulkhead config, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.clientName = clientName;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void exchange(HttpRequestValues values) {
+        execute(values, () -> {
+            super.exchange(values);
+            return null;
+        });
+    }
+
+    @Override
+    public HttpHeaders exchangeForHeaders(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForHeaders(values));
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForBody(values, bodyType));
+    }
+
+    @Override
+    public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForBodilessEntity(values));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForEntity(values, bodyType));
+    }
+
+    private <T> T execute(HttpRequestValues values, Supplier<T> call) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+        String endpoint = String.valueOf(values.getUriTemplate());
+        var limits = config.getEndpoints().get(endpoint);
+        if (limits == null) {
+            return call.get();
+        }
+
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(endpoint, key -> new Bulkhead("http.client.bulkhead",
+                Tags.of("client", clientName, "endpoint", key), limits.getMaxConcurrent(), limits.getMaxQueued(),
+                limits.getMaxWait(), meterRegistry));
+        if (!bulkhead.tryAcquire()) {
+            throw new BulkheadFullException(clientName, endpoint);
+        }
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
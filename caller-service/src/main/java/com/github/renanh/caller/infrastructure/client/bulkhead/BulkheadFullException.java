@@ -0,0 +1,10 @@
+package com.github.renanh.caller.infrastructure.client.bulkhead;
+
+import org.springframework.web.client.RestClientException;
+
+public class BulkheadFullException extends RestClientException {
+
+    public BulkheadFullException(String clientName, String endpoint) {
+        super(String.format("Bulkhead for %s %s is full, call not permitted", clientName, endpoint));
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.renanh.caller.infrastructure.client.circuitbreaker;
+
+import org.springframework.web.client.RestClientException;
+
+public class CallNotPermittedException extends RestClientException {
+
+    public CallNotPermittedException(String clientName, String endpoint) {
+        super(String.format("Circuit breaker for %s %s is open, call not permitted", clientName, endpoint));
+    }
+}
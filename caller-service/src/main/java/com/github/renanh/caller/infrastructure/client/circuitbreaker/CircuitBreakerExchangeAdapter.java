@@ -0,0 +1,102 @@
+package com.github.renanh.caller.infrastructure.client.circuitbreaker;
+
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Guards every endpoint of the generated client with its own {@link CircuitBreaker}. Server
+ * errors and I/O failures count as failures; 4xx responses are the caller's fault and count as
+ * successful calls.
+ */
+public class CircuitBreakerExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private final String clientName;
+    private final CallmeClientProperties.CircuitBreaker config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                         CallmeClientProperties.CircuitBreaker config,
+                                         MeterRegistry meterRegistry) {
+        super(delegate);
+        this.clientName = clientName;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void exchange(HttpRequestValues values) {
+        execute(values, () -> {
+            super.exchange(values);
+            return null;
+        });
+    }
+
+    @Override
+    public HttpHeaders exchangeForHeaders(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForHeaders(values));
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForBody(values, bodyType));
+    }
+
+    @Override
+    public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForBodilessEntity(values));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForEntity(values, bodyType));
+    }
+
+    private <T> T execute(HttpRequestValues values, Supplier<T> call) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+
+        String endpoint = String.valueOf(values.getUriTemplate());
+        CircuitBreaker breaker = breakers.computeIfAbsent(endpoint,
+                key -> new CircuitBreaker(clientName, key, config, meterRegistry));
+        CircuitBreaker.Permission permission = breaker.tryAcquirePermission();
+        if (permission == null) {
+            throw new CallNotPermittedException(clientName, endpoint);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            breaker.onSuccess(permission, System.nanoTime() - start);
+            return result;
+        } catch (DeadlineExceededException ex) {
+            // Without a cause the deadline had already passed and nothing reached the downstream
+            if (ex.getCause() != null) {
+                breaker.onError(permission, System.nanoTime() - start);
+            } else {
+                breaker.onSuccess(permission, System.nanoTime() - start);
+            }
+            throw ex;
+        } catch (HttpServerErrorException | ResourceAccessException ex) {
+            breaker.onError(permission, System.nanoTime() - start);
+            throw ex;
+        } catch (RuntimeException ex) {
+            breaker.onSuccess(permission, System.nanoTime() - start);
+            throw ex;
+        }
+    }
+}
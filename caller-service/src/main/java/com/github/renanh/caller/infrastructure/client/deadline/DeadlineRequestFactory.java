@@ -0,0 +1,43 @@
+package com.github.renanh.caller.infrastructure.client.deadline;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.Executor;
+
+/**
+ * Reactor Netty request factory whose response timeout follows the budget {@link DeadlineInterceptor}
+ * granted each attempt. Netty only takes a per-request timeout before the headers are written, so
+ * the budget is handed over on the calling thread, which creates the request right after the
+ * interceptors run. The client passed in carries the connect and default response timeouts.
+ */
+public class DeadlineRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final ReactorClientHttpRequestFactory defaultTimeout;
+
+    public DeadlineRequestFactory(HttpClient httpClient, Executor executor) {
+        this.httpClient = httpClient;
+        this.executor = executor;
+        this.defaultTimeout = newFactory(httpClient);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        var budget = DeadlineInterceptor.attemptBudget();
+        var factory = budget != null ? newFactory(httpClient.responseTimeout(budget)) : defaultTimeout;
+        return factory.createRequest(uri, httpMethod);
+    }
+
+    private ReactorClientHttpRequestFactory newFactory(HttpClient client) {
+        var factory = new ReactorClientHttpRequestFactory(client);
+        factory.setExecutor(executor);
+        return factory;
+    }
+}
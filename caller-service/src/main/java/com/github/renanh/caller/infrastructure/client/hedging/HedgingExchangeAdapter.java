@@ -0,0 +1,273 @@
+package com.github.renanh.caller.infrastructure.client.hedging;
+
+import com.github.renanh.caller.infrastructure.client.RequestBudget;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate request when the primary one runs past the tracked latency percentile of
+ * its endpoint, returns whichever answers first and interrupts the other. Hedges are paid for
+ * from a {@link RequestBudget}. The primary runs on the calling thread and only the hedge goes
+ * through the executor. Latency is recorded with a {@code winner} tag, {@code primary} or
+ * {@code hedge}, so p99 shows what the hedges actually bought.
+ */
+public class HedgingExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
+    private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+    private static final String PRIMARY = "primary";
+    private static final String HEDGE = "hedge";
+
+    private final String clientName;
+    private final CallmeClientProperties.Hedging hedging;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final RequestBudget budget;
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesRejected;
+
+    public HedgingExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                  CallmeClientProperties.Hedging hedging,
+                                  ExecutorService executor, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.clientName = clientName;
+        this.hedging = hedging;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.budget = new RequestBudget(hedging.getBudgetRatio(), hedging.getBudgetBurst());
+        this.hedgesSent = counter("http.client.hedging.sent", "Hedge requests sent");
+        this.hedgesWon = counter("http.client.hedging.won", "Hedge requests that answered before the primary");
+        this.hedgesRejected = counter("http.client.hedging.rejected", "Hedges skipped because the budget was empty");
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForBody(values, bodyType));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForEntity(values, bodyType));
+    }
+
+    private <T> T execute(HttpRequestValues values, Supplier<T> call) {
+        String endpoint = values.getUriTemplate();
+        if (endpoint == null || !hedging.getEndpoints().contains(endpoint)) {
+            return call.get();
+        }
+
+        EndpointState state = endpoints.computeIfAbsent(endpoint, this::newEndpointState);
+        if (hedging.isEnabled() && state.tracker().sampleCount() >= hedging.getMinSamples()) {
+            return hedge(state, call);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            state.tracker().record(System.nanoTime() - start);
+            return result;
+        } finally {
+            state.latency(PRIMARY).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T hedge(EndpointState state, Supplier<T> call) {
+        budget.deposit();
+        long hedgeDelayNanos = Math.max(hedging.getMinDelay().toNanos(), state.tracker().percentileNanos());
+
+        // The primary runs on the calling thread; the executor is only used once the timer fires
+        var race = new Race<T>(Thread.currentThread());
+        Callable<T> hedgeAttempt = attempt(state.tracker(), call);
+        ScheduledFuture<?> timer = TIMER.schedule(() -> race.launchHedge(hedgeAttempt),
+                hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        long start = System.nanoTime();
+        String winner = PRIMARY;
+        try {
+            T result = null;
+            Exception failure = null;
+            try {
+                result = call.get();
+            } catch (Exception ex) {
+                // checked exceptions can still be sneaked through the supplier
+                failure = ex;
+            }
+            long primaryNanos = System.nanoTime() - start;
+            Future<T> hedge = race.finishPrimary(failure == null);
+            timer.cancel(false);
+            if (race.hedgeWon()) {
+                // The hedge interrupted the primary before handing over its result
+                Thread.interrupted();
+                winner = HEDGE;
+                hedgesWon.increment();
+                return race.hedgeResult();
+            }
+            if (failure == null) {
+                state.tracker().record(primaryNanos);
+                return result;
+            }
+            if (hedge == null) {
+                throw asRuntime(failure);
+            }
+            // The primary failed; the hedge may still succeed
+            winner = HEDGE;
+            T hedgeResult = hedge.get();
+            hedgesWon.increment();
+            return hedgeResult;
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for " + clientName + " response");
+        } finally {
+            race.cancelHedge();
+            state.latency(winner).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> Callable<T> attempt(LatencyTracker tracker, Supplier<T> call) {
+        return CONTEXT_SNAPSHOT_FACTORY.captureAll().wrap(() -> {
+            long start = System.nanoTime();
+            T result = call.get();
+            tracker.record(System.nanoTime() - start);
+            return result;
+        });
+    }
+
+    private EndpointState newEndpointState(String endpoint) {
+        return new EndpointState(new LatencyTracker(hedging.getWindowSize(), hedging.getPercentile()),
+                latencyTimer(endpoint, PRIMARY), latencyTimer(endpoint, HEDGE));
+    }
+
+    private Timer latencyTimer(String endpoint, String winner) {
+        return Timer.builder("http.client.hedging.latency")
+                .description("End-to-end latency of hedgeable downstream calls")
+                .tag("client", clientName)
+                .tag("uri", endpoint)
+                .tag("winner", winner)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String description) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    private static RuntimeException unwrap(ExecutionException ex) {
+        return asRuntime(ex.getCause());
+    }
+
+    private static RuntimeException asRuntime(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        var timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("hedge-timer").daemon().factory());
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private record EndpointState(LatencyTracker tracker, Timer primary, Timer hedge) {
+
+        Timer latency(String winner) {
+            return HEDGE.equals(winner) ? hedge : primary;
+        }
+    }
+
+    /**
+     * Hands the outcome over between the primary, running on the caller's thread, and the hedge.
+     * A hedge that answers first interrupts the primary while holding the lock, so the primary
+     * always sees the interrupt before it learns it lost.
+     */
+    private final class Race<T> {
+
+        private final Thread primaryThread;
+        private Future<T> hedge;
+        private boolean primaryDone;
+        private boolean hedgeWon;
+        private T hedgeResult;
+
+        Race(Thread primaryThread) {
+            this.primaryThread = primaryThread;
+        }
+
+        synchronized void launchHedge(Callable<T> attempt) {
+            if (primaryDone) {
+                return;
+            }
+            if (!budget.tryAcquire()) {
+                hedgesRejected.increment();
+                return;
+            }
+            hedge = executor.submit(() -> {
+                T result = attempt.call();
+                finishHedge(result);
+                return result;
+            });
+            hedgesSent.increment();
+        }
+
+        /** Closes the race for the hedge unless it already won; returns the hedge still running, if any. */
+        synchronized Future<T> finishPrimary(boolean succeeded) {
+            if (!hedgeWon) {
+                primaryDone = true;
+            }
+            return succeeded ? null : hedge;
+        }
+
+        synchronized boolean hedgeWon() {
+            return hedgeWon;
+        }
+
+        synchronized T hedgeResult() {
+            return hedgeResult;
+        }
+
+        synchronized void cancelHedge() {
+            primaryDone = true;
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+
+        private synchronized void finishHedge(T result) {
+            if (primaryDone) {
+                return;
+            }
+            hedgeWon = true;
+            hedgeResult = result;
+            primaryDone = true;
+            primaryThread.interrupt();
+        }
+    }
+}
+
@@ -0,0 +1,52 @@
+package com.github.renanh.caller.infrastructure.client.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of the most recent response latencies for one endpoint. Writers only touch
+ * one array slot; the percentile is recomputed from a sorted copy every {@code recomputeEvery}
+ * samples, so readers never sort on the request path.
+ */
+class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private final int recomputeEvery;
+    private volatile long percentileNanos = Long.MAX_VALUE;
+
+    LatencyTracker(int windowSize, double percentile) {
+        this.samples = new AtomicLongArray(windowSize);
+        this.percentile = percentile;
+        this.recomputeEvery = Math.max(1, windowSize / 10);
+    }
+
+    void record(long latencyNanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % samples.length()), latencyNanos);
+        if ((n + 1) % recomputeEvery == 0) {
+            recompute();
+        }
+    }
+
+    long sampleCount() {
+        return count.get();
+    }
+
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute() {
+        int size = (int) Math.min(count.get(), samples.length());
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        percentileNanos = snapshot[Math.clamp(index, 0, size - 1)];
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.renanh.caller.infrastructure.client.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * "Decorrelated jitter" backoff: each delay is drawn between the base delay and three times the
+ * previous delay, capped at the maximum. Spreads retries from many clients apart instead of
+ * letting them arrive at the backend in synchronized waves.
+ */
+class DecorrelatedJitterBackoff {
+
+    private final long baseMillis;
+    private final long maxMillis;
+
+    DecorrelatedJitterBackoff(Duration base, Duration max) {
+        this.baseMillis = Math.max(1, base.toMillis());
+        this.maxMillis = Math.max(baseMillis, max.toMillis());
+    }
+
+    long initialDelayMillis() {
+        return baseMillis;
+    }
+
+    long nextDelayMillis(long previousDelayMillis) {
+        long upperBound = Math.max(baseMillis + 1, previousDelayMillis * 3);
+        return Math.min(maxMillis, ThreadLocalRandom.current().nextLong(baseMillis, upperBound));
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.renanh.caller.infrastructure.client.retry;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+/**
+ * Header contract that keeps retries to a single hop of the call chain. The first hop with
+ * retries enabled stamps its name on outbound requests; every hop downstream of it sees the
+ * header, skips its own retries and forwards the header unchanged.
+ */
+public final class RetryHop {
+
+    public static final String HEADER = "X-Retry-Hop";
+
+    private RetryHop() {
+    }
+
+    public static Optional<String> upstreamOwner() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.ofNullable(attributes.getRequest().getHeader(HEADER));
+        }
+        return Optional.empty();
+    }
+}
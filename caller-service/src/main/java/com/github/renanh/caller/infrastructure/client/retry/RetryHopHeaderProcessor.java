@@ -0,0 +1,24 @@
+package com.github.renanh.caller.infrastructure.client.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.lang.reflect.Method;
+import java.util.function.BooleanSupplier;
+
+@RequiredArgsConstructor
+public class RetryHopHeaderProcessor implements HttpRequestValues.Processor {
+
+    private final String hopName;
+    private final BooleanSupplier retryEnabled;
+
+    @Override
+    public void process(Method method, MethodParameter[] parameters, Object[] arguments,
+                        HttpRequestValues.Builder builder) {
+        String owner = RetryHop.upstreamOwner().orElse(retryEnabled.getAsBoolean() ? hopName : null);
+        if (owner != null) {
+            builder.addHeader(RetryHop.HEADER, owner);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.renanh.caller.infrastructure.client.retry;
+
+import com.github.renanh.caller.infrastructure.client.RequestBudget;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.deadline.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent calls that failed with a retryable status or an I/O error. Each retry is
+ * paid for from a per-downstream {@link RequestBudget} and waits a decorrelated-jitter backoff.
+ * Calls are never retried when an upstream hop already owns retries (see {@link RetryHop}), nor
+ * when the request's {@link Deadline} would pass before the backoff ends.
+ */
+@Slf4j
+public class RetryingExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private final String clientName;
+    private final CallmeClientProperties.Retry retry;
+    private final RequestBudget budget;
+    private final DecorrelatedJitterBackoff backoff;
+    private final Counter retries;
+    private final Counter budgetExhausted;
+
+    public RetryingExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                   CallmeClientProperties.Retry retry, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.clientName = clientName;
+        this.retry = retry;
+        this.budget = new RequestBudget(retry.getBudgetRatio(), retry.getBudgetBurst());
+        this.backoff = new DecorrelatedJitterBackoff(retry.getBaseDelay(), retry.getMaxDelay());
+        this.retries = Counter.builder("http.client.retry.attempts")
+                .description("Retries sent to the downstream service")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("http.client.retry.budget.exhausted")
+                .description("Retries skipped because the retry budget was empty")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void exchange(HttpRequestValues values) {
+        execute(values, () -> {
+            super.exchange(values);
+            return null;
+        });
+    }
+
+    @Override
+    public HttpHeaders exchangeForHeaders(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForHeaders(values));
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForBody(values, bodyType));
+    }
+
+    @Override
+    public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues values) {
+        return execute(values, () -> super.exchangeForBodilessEntity(values));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return execute(values, () -> super.exchangeForEntity(values, bodyType));
+    }
+
+    private <T> T execute(HttpRequestValues values, Supplier<T> call) {
+        if (!retry.isEnabled() || values.getHttpMethod() != HttpMethod.GET || RetryHop.upstreamOwner().isPresent()) {
+            return call.get();
+        }
+
+        budget.deposit();
+        long delayMillis = backoff.initialDelayMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException ex) {
+                if (attempt >= retry.getMaxAttempts() || !isRetryable(ex)) {
+                    throw ex;
+                }
+                if (!budget.tryAcquire()) {
+                    budgetExhausted.increment();
+                    throw ex;
+                }
+                delayMillis = backoff.nextDelayMillis(delayMillis);
+                var deadline = Deadline.current();
+                if (deadline != null && deadline.remainingMillis() <= delayMillis) {
+                    throw ex;
+                }
+                log.debug("Retrying {} {} in {}ms, attempt={}, cause={}",
+                        clientName, values.getUriTemplate(), delayMillis, attempt + 1, ex.getMessage());
+                pause(delayMillis, ex);
+                retries.increment();
+            }
+        }
+    }
+
+    private boolean isRetryable(RuntimeException ex) {
+        if (ex instanceof HttpServerErrorException serverError) {
+            return retry.getRetryableStatuses().contains(serverError.getStatusCode().value());
+        }
+        return ex instanceof ResourceAccessException && !(ex instanceof DeadlineExceededException);
+    }
+
+    private static void pause(long delayMillis, RuntimeException cause) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
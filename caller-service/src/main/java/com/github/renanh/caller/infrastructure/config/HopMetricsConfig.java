@@ -0,0 +1,27 @@
+package com.github.renanh.caller.infrastructure.config;
+
+import com.github.renanh.caller.infrastructure.observability.HopMetrics;
+import com.github.renanh.caller.infrastructure.observability.HopTimingFilter;
+import com.github.renanh.caller.infrastructure.observability.RequestLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class HopMetricsConfig {
+
+    @Bean
+    public HopMetrics hopMetrics(MeterRegistry meterRegistry, ServiceProperties serviceProperties) {
+        return new HopMetrics(meterRegistry, serviceProperties.getHop());
+    }
+
+    @Bean
+    public FilterRegistrationBean<HopTimingFilter> hopTimingFilter(HopMetrics hopMetrics, RequestLog requestLog) {
+        var registration = new FilterRegistrationBean<>(new HopTimingFilter(hopMetrics, requestLog));
+        // Inside only the concurrency limiter, so self time covers every other filter as well as the handler
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.renanh.caller.infrastructure.config;
+
+import com.github.renanh.caller.api.dto.PingStreamEvent;
+import com.github.renanh.caller.domain.event.ProcessingEvent;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reachability metadata for the native image beyond what Spring AOT infers from the bean definitions.
+ * The {@code @ConfigurationProperties} classes are left to Spring Boot, which registers them with
+ * their nested types.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.ServiceRuntimeHints.class)
+public class NativeConfig {
+
+    public static class ServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JFR reads the event's fields reflectively to build its event type
+            hints.reflection().registerType(ProcessingEvent.class,
+                    MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // AOT only derives the proxy while the client bean is declared with its interface type
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(CallmeServiceClient.class));
+            hints.reflection().registerType(CallmeServiceClient.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // The stream events are serialized through the JsonMapper, outside any controller signature
+            for (Class<?> type : new Class<?>[] {PingStreamEvent.class, PingStreamEvent.Call.class,
+                    PingStreamEvent.Window.class}) {
+                hints.reflection().registerType(type, MemberCategory.ACCESS_DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
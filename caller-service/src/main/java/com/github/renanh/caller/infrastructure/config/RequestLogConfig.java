@@ -0,0 +1,45 @@
+package com.github.renanh.caller.infrastructure.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.github.renanh.caller.infrastructure.observability.MeteredAsyncAppender;
+import com.github.renanh.caller.infrastructure.observability.RequestLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestLogConfig {
+
+    @Bean
+    public RequestLog requestLog(MeterRegistry meterRegistry, ServiceProperties serviceProperties) {
+        return new RequestLog(meterRegistry, serviceProperties.getRequestLog());
+    }
+
+    // The appender is created by logback-spring.xml before the context, so it is looked up rather than injected
+    @Bean
+    public MeterBinder asyncAppenderMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+            loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders().forEachRemaining(appender -> {
+                if (appender instanceof MeteredAsyncAppender async) {
+                    FunctionCounter.builder("logging.async.dropped", async, MeteredAsyncAppender::getDroppedCount)
+                            .description("Log events dropped by the async appender: INFO and below past the "
+                                    + "discarding threshold, any level with the queue full")
+                            .tag("appender", async.getName())
+                            .register(registry);
+                    Gauge.builder("logging.async.queue.size", async, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                            .description("Log events waiting in the async appender queue")
+                            .tag("appender", async.getName())
+                            .register(registry);
+                }
+            });
+        };
+    }
+}
@@ -1,15 +1,44 @@
 package com.github.renanh.caller.infrastructure.config;
 
 import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.ConnectionChurnObserver;
+import com.github.renanh.caller.infrastructure.client.bulkhead.BulkheadExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.cache.ResponseCacheExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CircuitBreakerExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.coalescing.SingleFlightExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineInterceptor;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineProcessor;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineRequestFactory;
+import com.github.renanh.caller.infrastructure.client.hedging.HedgingExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.loadbalancer.LoadBalancer;
+import com.github.renanh.caller.infrastructure.client.loadbalancer.LoadBalancingInterceptor;
+import com.github.renanh.caller.infrastructure.client.retry.RetryHopHeaderProcessor;
+import com.github.renanh.caller.infrastructure.client.retry.RetryingExchangeAdapter;
+import com.github.renanh.caller.infrastructure.observability.DownstreamTimingExchangeAdapter;
+import com.github.renanh.caller.infrastructure.observability.HopTimingProcessor;
+import com.github.renanh.caller.infrastructure.observability.RequestStartInterceptor;
+import com.github.renanh.caller.infrastructure.observability.ServerTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 @Configuration
 @RequiredArgsConstructor
@@ -17,21 +46,105 @@ public class RestClientConfig {
 
     private final CallmeClientProperties callmeClientProperties;
 
+    @Bean(destroyMethod = "close")
+    public ExecutorService callmeClientExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("callme-client-", 0).factory());
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name("callme-client-", 0).daemon().factory());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources callmeLoopResources() {
+        int threads = callmeClientProperties.getEventLoop().getThreads();
+        return LoopResources.create("callme-client-io",
+                threads > 0 ? threads : LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider callmeConnectionProvider() {
+        var pool = callmeClientProperties.getPool();
+        var builder = ConnectionProvider.builder("callme")
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (callmeClientProperties.getProtocols().contains(HttpProtocol.H2C)) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        } else {
+            builder.maxConnections(pool.getMaxConnections());
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public LoadBalancer callmeLoadBalancer(MeterRegistry meterRegistry) {
+        return new LoadBalancer("callme", callmeClientProperties.getUrl(), callmeClientProperties.getLoadBalancer(),
+                meterRegistry);
+    }
+
     @Bean
-    public RestClient callmeRestClient() {
-        var requestFactory = new JdkClientHttpRequestFactory();
-        requestFactory.setReadTimeout(Duration.ofMillis(callmeClientProperties.getTimeout()));
+    public RestClient callmeRestClient(ConnectionProvider callmeConnectionProvider,
+                                       LoopResources callmeLoopResources,
+                                       ExecutorService callmeClientExecutor,
+                                       LoadBalancer callmeLoadBalancer,
+                                       MeterRegistry meterRegistry,
+                                       ServiceProperties serviceProperties) {
+        var readTimeout = Duration.ofMillis(callmeClientProperties.getTimeout());
+        var httpClient = HttpClient.create(callmeConnectionProvider)
+                .runOn(callmeLoopResources)
+                .protocol(callmeClientProperties.getProtocols().toArray(HttpProtocol[]::new))
+                .keepAlive(true)
+                .observe(new ConnectionChurnObserver("callme", meterRegistry))
+                .metrics(true, Function.identity())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, callmeClientProperties.getConnectTimeout())
+                .responseTimeout(readTimeout);
+
+        var requestFactory = new DeadlineRequestFactory(httpClient, callmeClientExecutor);
 
         return RestClient.builder()
                 .baseUrl(callmeClientProperties.getUrl())
                 .requestFactory(requestFactory)
+                .requestInterceptor(new RequestStartInterceptor())
+                .requestInterceptor(new ServerTimingInterceptor())
+                .requestInterceptor(new DeadlineInterceptor("callme", readTimeout,
+                        () -> serviceProperties.getDeadline().isEnabled()))
+                .requestInterceptor(new LoadBalancingInterceptor(callmeLoadBalancer))
                 .build();
     }
 
     @Bean
-    public CallmeServiceClient callmeServiceClient(RestClient callmeRestClient) {
+    public CallmeServiceClient callmeServiceClient(RestClient callmeRestClient,
+                                                   ExecutorService callmeClientExecutor,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${spring.application.name}") String applicationName) {
         var adapter = RestClientAdapter.create(callmeRestClient);
-        var factory = HttpServiceProxyFactory.builderFor(adapter).build();
+        var factory = HttpServiceProxyFactory.builderFor(adapter)
+                .httpRequestValuesProcessor(new DeadlineProcessor())
+                .httpRequestValuesProcessor(new HopTimingProcessor())
+                .httpRequestValuesProcessor(new RetryHopHeaderProcessor(applicationName,
+                        () -> callmeClientProperties.getRetry().isEnabled()))
+                // Decorators are applied in order: the first one registered sits closest to the HTTP call
+                .exchangeAdapterDecorator(delegate -> new HedgingExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getHedging(), callmeClientExecutor, meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new CircuitBreakerExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getCircuitBreaker(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new RetryingExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getRetry(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new BulkheadExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getBulkhead(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new SingleFlightExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getCoalescing(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new ResponseCacheExchangeAdapter(delegate, "callme",
+                        callmeClientProperties.getCache(), meterRegistry))
+                .exchangeAdapterDecorator(DownstreamTimingExchangeAdapter::new)
+                .build();
         return factory.createClient(CallmeServiceClient.class);
     }
 }
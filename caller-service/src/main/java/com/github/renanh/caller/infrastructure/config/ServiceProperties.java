@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "service")
 @Getter
@@ -12,4 +17,167 @@ import org.springframework.stereotype.Component;
 public class ServiceProperties {
 
     private String version = "v1";
+
+    /** Cache-Control max-age advertised on /ping; zero sends no header. */
+    private Duration pingCacheMaxAge = Duration.ZERO;
+
+    private final Jfr jfr = new Jfr();
+    private final Hop hop = new Hop();
+    private final RequestLog requestLog = new RequestLog();
+    private final Limiter limiter = new Limiter();
+    private final Deadline deadline = new Deadline();
+    private final Bulkhead bulkhead = new Bulkhead();
+    private final Stream stream = new Stream();
+
+    @Getter
+    @Setter
+    public static class Jfr {
+
+        /** Streams ProcessingEvent, GC, safepoint and thread-park events into Micrometer timers. */
+        private boolean enabled = true;
+
+        /** Shorter thread parks are not recorded. */
+        private Duration threadParkThreshold = Duration.ofMillis(10);
+
+        /** How long streamed events are kept in the JFR disk repository. */
+        private Duration maxAge = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Hop {
+
+        /** Bucket boundaries of the http.server.hop histograms. */
+        private List<Duration> sloBuckets = List.of(Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        /** Also publish Micrometer's generated percentile-histogram buckets on top of the SLO buckets. */
+        private boolean percentileHistogram = false;
+
+        /** Reports the phases in a Server-Timing response header, along with those relayed from downstream. */
+        private boolean serverTiming = true;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestLog {
+
+        /** Logs one line per completed request, subject to sampling. */
+        private boolean enabled = true;
+
+        /** Share of requests logged per endpoint, between 0 and 1. */
+        private double sampleRate = 0.01;
+
+        /** Sample rate overrides by endpoint pattern, e.g. /caller/ping. */
+        private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+        /** Logs every 5xx and every request slower than slow-threshold regardless of the sample rate. */
+        private boolean alwaysLogErrorsAndSlow = true;
+
+        private Duration slowThreshold = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        public enum Algorithm {
+            AIMD, GRADIENT
+        }
+
+        /** Sheds requests above an adaptive concurrency limit with 503 and Retry-After. */
+        private boolean enabled = false;
+
+        private Algorithm algorithm = Algorithm.GRADIENT;
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 200;
+
+        /** Sent as Retry-After on rejected requests, rounded down to whole seconds (at least 1). */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /** AIMD: factor applied to the limit on a drop. */
+        private double backoffRatio = 0.9;
+
+        /** AIMD: slower requests count as drops; below the callers' timeout so the limit reacts first. */
+        private Duration timeout = Duration.ofSeconds(4);
+
+        /** GRADIENT: how much the latest RTT may exceed the long-term average before the limit shrinks. */
+        private double rttTolerance = 2.0;
+
+        /** GRADIENT: weight of each new estimate in the limit. */
+        private double smoothing = 0.2;
+
+        /** GRADIENT: samples in the long-term RTT average. */
+        private int longWindow = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class Deadline {
+
+        /** Honours the X-Deadline-Ms header and passes the remaining budget on to downstream calls. */
+        private boolean enabled = true;
+
+        /** Budget of requests that arrive without the header; unset leaves them bounded only by client timeouts. */
+        private Duration defaultBudget;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /** Caps concurrent requests per endpoint, so a flood on one cannot take the threads of the others. */
+        private boolean enabled = false;
+
+        /** Sent as Retry-After on rejected requests, rounded down to whole seconds (at least 1). */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /** Limits by request path; endpoints without an entry share what the others leave. */
+        private Map<String, Limits> endpoints = defaultEndpoints();
+
+        private static Map<String, Limits> defaultEndpoints() {
+            var defaults = new LinkedHashMap<String, Limits>();
+            defaults.put("/caller/ping-with-random-delay", new Limits());
+            return defaults;
+        }
+
+        @Getter
+        @Setter
+        public static class Limits {
+
+            private int maxConcurrent = 50;
+
+            /** Calls allowed to wait for a permit; 0 rejects as soon as the bulkhead is full. */
+            private int maxQueued = 0;
+
+            private Duration maxWait = Duration.ZERO;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        private int defaultRate = 10;
+        private int maxRate = 1000;
+        private Duration defaultDuration = Duration.ofSeconds(60);
+        private Duration maxDuration = Duration.ofMinutes(10);
+        private int defaultConcurrency = 32;
+        private int maxConcurrency = 256;
+
+        /** Interval of the summary events sent between the per-call results. */
+        private Duration window = Duration.ofSeconds(1);
+
+        /** How long calls still in flight may take once the stream duration is over. */
+        private Duration drainTimeout = Duration.ofSeconds(10);
+
+        /** Streams open at the same time; each one holds a connection and up to max-concurrency calls. */
+        private int maxStreams = 16;
+    }
 }
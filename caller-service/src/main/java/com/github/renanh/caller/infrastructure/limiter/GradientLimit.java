@@ -0,0 +1,62 @@
+package com.github.renanh.caller.infrastructure.limiter;
+
+/**
+ * Latency-gradient limit, after Netflix's Gradient2: the ratio between a long-term average RTT and
+ * the latest RTT, capped to [0.5, 1] and relaxed by {@code rttTolerance}, scales the limit down as
+ * queueing builds up, while a queue allowance of sqrt(limit) lets it probe upward. Updates are
+ * smoothed, and skipped while less than half of the limit is in use.
+ */
+public class GradientLimit implements Limit {
+
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing,
+                         int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        double shortRtt = Math.max(rttNanos, 1);
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            // Plain average until the window has enough samples to be meaningful
+            longRttNanos += (shortRtt - longRttNanos) / samples;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / longWindow;
+        }
+        // Let the long-term average recover quickly after a sustained latency spike
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlight * 2 < estimatedLimit) {
+            return;
+        }
+
+        double gradient = Math.clamp(rttTolerance * longRttNanos / shortRtt, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
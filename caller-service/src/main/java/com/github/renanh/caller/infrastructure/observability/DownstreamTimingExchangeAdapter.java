@@ -0,0 +1,62 @@
+package com.github.renanh.caller.infrastructure.observability;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.util.function.Supplier;
+
+/**
+ * Adds the wall time the handler spends inside the client, retries, hedges and backoff included,
+ * to the current request's {@link HopTiming}. Registered outermost so it sees what the caller waits for.
+ */
+public class DownstreamTimingExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    public DownstreamTimingExchangeAdapter(HttpExchangeAdapter delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void exchange(HttpRequestValues values) {
+        timed(() -> {
+            super.exchange(values);
+            return null;
+        });
+    }
+
+    @Override
+    public HttpHeaders exchangeForHeaders(HttpRequestValues values) {
+        return timed(() -> super.exchangeForHeaders(values));
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return timed(() -> super.exchangeForBody(values, bodyType));
+    }
+
+    @Override
+    public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues values) {
+        return timed(() -> super.exchangeForBodilessEntity(values));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        return timed(() -> super.exchangeForEntity(values, bodyType));
+    }
+
+    private static <T> T timed(Supplier<T> call) {
+        var timing = HopTiming.current();
+        if (timing == null) {
+            return call.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            timing.addDownstream(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.renanh.caller.infrastructure.observability;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Keeps the {@link ServerTiming#HEADER} of each downstream response in the {@link HopTiming} that
+ * {@link HopTimingProcessor} attached to the call, so this hop can relay it upstream.
+ */
+public class ServerTimingInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        var response = execution.execute(request, body);
+        if (request.getAttributes().get(HopTiming.ATTRIBUTE) instanceof HopTiming timing) {
+            var serverTiming = response.getHeaders().getOrEmpty(ServerTiming.HEADER);
+            if (!serverTiming.isEmpty()) {
+                timing.setDownstreamServerTiming(String.join(", ", serverTiming));
+            }
+        }
+        return response;
+    }
+}
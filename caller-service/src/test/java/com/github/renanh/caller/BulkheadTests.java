@@ -0,0 +1,144 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.bulkhead.Bulkhead;
+import com.github.renanh.caller.infrastructure.bulkhead.BulkheadFilter;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.bulkhead.BulkheadExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.bulkhead.BulkheadFullException;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("Bulkhead")
+class BulkheadTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Bulkhead bulkhead(int maxConcurrent, int maxQueued, Duration maxWait) {
+        return new Bulkhead("test.bulkhead", Tags.empty(), maxConcurrent, maxQueued, maxWait, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Permissões")
+    class Permits {
+
+        @Test
+        @DisplayName("Deve rejeitar imediatamente quando está cheio e sem fila")
+        void shouldRejectWhenFull() {
+            var bulkhead = bulkhead(2, 0, Duration.ZERO);
+
+            assertThat(bulkhead.tryAcquire()).isTrue();
+            assertThat(bulkhead.tryAcquire()).isTrue();
+            assertThat(bulkhead.tryAcquire()).isFalse();
+
+            assertThat(meterRegistry.get("test.bulkhead.calls").tag("outcome", "rejected").counter().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("test.bulkhead.saturation").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Deve entregar a permissão liberada a uma chamada na fila")
+        void shouldHandPermitToQueuedCall() throws Exception {
+            var bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+            assertThat(bulkhead.tryAcquire()).isTrue();
+
+            var queued = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+            while (meterRegistry.get("test.bulkhead.queued").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+            assertThat(bulkhead.tryAcquire()).as("queue is full").isFalse();
+            bulkhead.release();
+
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(bulkhead.active()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("BulkheadFilter")
+    class Filter {
+
+        @Test
+        @DisplayName("Deve manter o endpoint rápido disponível enquanto o lento está saturado")
+        void shouldIsolateEndpoints() throws Exception {
+            var config = new ServiceProperties.Bulkhead();
+            config.setEnabled(true);
+            config.getEndpoints().get("/caller/ping-with-random-delay").setMaxConcurrent(1);
+            var filter = new BulkheadFilter(config, meterRegistry);
+
+            var slowRequest = new MockHttpServletRequest("GET", "/caller/ping-with-random-delay");
+            slowRequest.setAsyncSupported(true);
+            slowRequest.startAsync();
+            filter.doFilter(slowRequest, new MockHttpServletResponse(), new MockFilterChain());
+
+            var rejected = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/caller/ping-with-random-delay"), rejected,
+                    new MockFilterChain());
+            var fast = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/caller/ping"), fast, new MockFilterChain());
+
+            assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+            assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(fast.getStatus()).isEqualTo(HttpStatus.OK.value());
+
+            slowRequest.getAsyncContext().complete();
+            var afterCompletion = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/caller/ping-with-random-delay"), afterCompletion,
+                    new MockFilterChain());
+            assertThat(afterCompletion.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("BulkheadExchangeAdapter")
+    class Client {
+
+        @Test
+        @DisplayName("Deve falhar rápido quando o método downstream está saturado")
+        void shouldFailFastWhenMethodIsSaturated() {
+            var config = new CallmeClientProperties.Bulkhead();
+            config.setEnabled(true);
+            config.getEndpoints().get("/callme/ping-with-random-delay").setMaxConcurrent(1);
+            var builder = RestClient.builder().baseUrl("http://callme-service:8080");
+            var server = MockRestServiceServer.bindTo(builder).build();
+            var client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(builder.build()))
+                    .exchangeAdapterDecorator(delegate -> new BulkheadExchangeAdapter(delegate, "callme", config,
+                            meterRegistry))
+                    .build()
+                    .createClient(CallmeServiceClient.class);
+            // While the first call holds the only permit, a second one is rejected and other methods still pass
+            server.expect(requestTo("http://callme-service:8080/callme/ping-with-random-delay"))
+                    .andRespond(request -> {
+                        assertThatThrownBy(client::pingWithRandomDelay).isInstanceOf(BulkheadFullException.class);
+                        assertThat(client.ping()).isEqualTo("pong");
+                        return withSuccess("slow pong", null).createResponse(request);
+                    });
+            server.expect(requestTo("http://callme-service:8080/callme/ping")).andRespond(withSuccess("pong", null));
+
+            assertThat(client.pingWithRandomDelay()).isEqualTo("slow pong");
+            server.verify();
+        }
+    }
+}
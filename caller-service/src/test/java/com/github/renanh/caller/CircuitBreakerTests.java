@@ -0,0 +1,224 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CallNotPermittedException;
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CircuitBreaker;
+import com.github.renanh.caller.infrastructure.client.circuitbreaker.CircuitBreakerExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineInterceptor;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineRequestFactory;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.deadline.Deadline;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Circuit Breaker")
+class CircuitBreakerTests {
+
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+    private static final long FAST_CALL = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW_CALL = TimeUnit.SECONDS.toNanos(3);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallmeClientProperties.CircuitBreaker config = new CallmeClientProperties.CircuitBreaker();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        config.setSlidingWindowSize(10);
+        config.setMinimumNumberOfCalls(10);
+        config.setPermittedCallsInHalfOpenState(2);
+        config.setWaitDurationInOpenState(Duration.ofMillis(50));
+        circuitBreaker = new CircuitBreaker("callme", "/callme/ping", config, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Estado CLOSED")
+    class ClosedState {
+
+        @Test
+        @DisplayName("Deve abrir quando a taxa de falhas atingir o limite")
+        void shouldOpenOnFailureRate() {
+            record(5, false, FAST_CALL);
+            record(5, true, FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+            assertThat(meterRegistry.get("http.client.circuitbreaker.rejected").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve abrir quando a taxa de chamadas lentas atingir o limite")
+        void shouldOpenOnSlowCallRate() {
+            record(2, false, FAST_CALL);
+            record(8, false, SLOW_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("Deve permanecer fechado antes do numero minimo de chamadas")
+        void shouldStayClosedBelowMinimumCalls() {
+            record(9, true, FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Estado HALF_OPEN")
+    class HalfOpenState {
+
+        @Test
+        @DisplayName("Deve fechar apos sondas bem-sucedidas")
+        void shouldCloseAfterSuccessfulProbes() throws InterruptedException {
+            record(10, true, FAST_CALL);
+            Thread.sleep(60);
+
+            var first = circuitBreaker.tryAcquirePermission();
+            assertThat(first).isNotNull();
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            var second = circuitBreaker.tryAcquirePermission();
+            assertThat(second).isNotNull();
+            assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+
+            circuitBreaker.onSuccess(first, FAST_CALL);
+            circuitBreaker.onSuccess(second, FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(meterRegistry.get("http.client.circuitbreaker.transitions")
+                    .tag("from", "half_open").tag("to", "closed").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve reabrir quando as sondas falharem")
+        void shouldReopenAfterFailedProbes() throws InterruptedException {
+            record(10, true, FAST_CALL);
+            Thread.sleep(60);
+
+            var first = circuitBreaker.tryAcquirePermission();
+            var second = circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onError(first, FAST_CALL);
+            circuitBreaker.onSuccess(second, FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("Deve contar uma unica rejeicao ao passar de OPEN para HALF_OPEN sem permissoes")
+        void shouldCountOneRejectionOnTransition() throws InterruptedException {
+            config.setPermittedCallsInHalfOpenState(0);
+            record(10, true, FAST_CALL);
+            Thread.sleep(60);
+
+            assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            assertThat(meterRegistry.get("http.client.circuitbreaker.rejected").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar resultados de chamadas liberadas antes da abertura")
+        void shouldIgnoreStaleResults() throws InterruptedException {
+            var stale = circuitBreaker.tryAcquirePermission();
+            record(10, true, FAST_CALL);
+            Thread.sleep(60);
+
+            var probe = circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onError(stale, FAST_CALL);
+            circuitBreaker.onError(stale, FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+            circuitBreaker.onSuccess(probe, FAST_CALL);
+            circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST_CALL);
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Adapter")
+    class Adapter {
+
+        @Test
+        @DisplayName("Deve abrir quando o downstream travar alem do deadline")
+        void shouldOpenWhenDownstreamHangsPastDeadline() throws IOException {
+            config.setEnabled(true);
+            config.setMinimumNumberOfCalls(2);
+            config.setSlidingWindowSize(2);
+            var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/callme/ping", exchange -> {
+                try {
+                    Thread.sleep(2_000);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.close();
+            });
+            server.start();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var restClient = RestClient.builder()
+                        .baseUrl("http://localhost:" + server.getAddress().getPort())
+                        .requestFactory(new DeadlineRequestFactory(
+                                HttpClient.create().responseTimeout(Duration.ofSeconds(5)), executor))
+                        .requestInterceptor(new DeadlineInterceptor("callme", Duration.ofSeconds(5), () -> true))
+                        .build();
+                var adapter = new CircuitBreakerExchangeAdapter(RestClientAdapter.create(restClient), "callme",
+                        config, meterRegistry);
+
+                for (int i = 0; i < 2; i++) {
+                    assertThatThrownBy(() -> adapter.exchangeForBody(pingWithDeadline(), STRING))
+                            .isInstanceOf(DeadlineExceededException.class)
+                            .hasCauseInstanceOf(IOException.class);
+                }
+
+                assertThatThrownBy(() -> adapter.exchangeForBody(pingWithDeadline(), STRING))
+                        .isInstanceOf(CallNotPermittedException.class);
+            } finally {
+                server.stop(0);
+            }
+        }
+
+        private HttpRequestValues pingWithDeadline() {
+            return HttpRequestValues.builder()
+                    .setHttpMethod(HttpMethod.GET)
+                    .setUriTemplate("/callme/ping")
+                    .addAttribute(Deadline.ATTRIBUTE, Deadline.after(Duration.ofMillis(100)))
+                    .build();
+        }
+    }
+
+    private void record(int calls, boolean failure, long durationNanos) {
+        for (int i = 0; i < calls; i++) {
+            var permission = circuitBreaker.tryAcquirePermission();
+            assertThat(permission).isNotNull();
+            if (failure) {
+                circuitBreaker.onError(permission, durationNanos);
+            } else {
+                circuitBreaker.onSuccess(permission, durationNanos);
+            }
+        }
+    }
+}
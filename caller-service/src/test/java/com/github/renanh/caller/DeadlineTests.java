@@ -0,0 +1,245 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.api.handler.GlobalExceptionHandler;
+import com.github.renanh.caller.api.resource.CallerResource;
+import com.github.renanh.caller.domain.service.CallerService;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineInterceptor;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineProcessor;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineRequestFactory;
+import com.github.renanh.caller.infrastructure.client.retry.RetryingExchangeAdapter;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import com.github.renanh.caller.infrastructure.deadline.Deadline;
+import com.github.renanh.caller.infrastructure.deadline.DeadlineFilter;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Deadline")
+class DeadlineTests {
+
+    private static final Duration CLIENT_TIMEOUT = Duration.ofMillis(5_000);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> receivedBudget = new AtomicReference<>();
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private HttpServer callme;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        callme = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        callme.setExecutor(executor);
+        callme.createContext("/callme/ping", exchange -> {
+            calls.incrementAndGet();
+            receivedBudget.set(exchange.getRequestHeaders().getFirst(Deadline.HEADER));
+            try {
+                Thread.sleep(delayMillis.get());
+                byte[] body = "callme-service(v1)".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // the client gave up first
+            } finally {
+                exchange.close();
+            }
+        });
+        callme.start();
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + callme.getAddress().getPort())
+                .requestFactory(new DeadlineRequestFactory(HttpClient.create().responseTimeout(CLIENT_TIMEOUT), executor))
+                .requestInterceptor(new DeadlineInterceptor("callme", CLIENT_TIMEOUT, () -> true))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callme.stop(0);
+        executor.shutdownNow();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Interceptor")
+    class Interceptor {
+
+        @Test
+        @DisplayName("Deve enviar o menor valor entre o budget restante e o timeout do cliente")
+        void shouldStampRemainingBudget() {
+            ping(Deadline.after(Duration.ofMillis(300)));
+
+            assertThat(Long.parseLong(receivedBudget.get())).isPositive().isLessThanOrEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("Deve enviar o timeout do cliente quando nao houver deadline")
+        void shouldStampClientTimeoutWithoutDeadline() {
+            restClient.get().uri("/callme/ping").retrieve().body(String.class);
+
+            assertThat(receivedBudget.get()).isEqualTo("5000");
+        }
+
+        @Test
+        @DisplayName("Nao deve enviar tentativa cujo deadline ja passou")
+        void shouldNotSendExpiredAttempt() throws InterruptedException {
+            var deadline = Deadline.after(Duration.ofMillis(1));
+            Thread.sleep(5);
+
+            assertThatThrownBy(() -> ping(deadline))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasNoCause();
+            assertThat(calls).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Factory")
+    class RequestFactory {
+
+        @Test
+        @DisplayName("Deve reduzir o timeout de resposta da tentativa ao budget restante")
+        void shouldNarrowResponseTimeout() {
+            delayMillis.set(CLIENT_TIMEOUT.toMillis() + 1_000);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> ping(Deadline.after(Duration.ofMillis(200))))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasCauseInstanceOf(IOException.class);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry")
+    class Retry {
+
+        private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+        };
+        private static final HttpRequestValues PING = HttpRequestValues.builder()
+                .setHttpMethod(HttpMethod.GET)
+                .setUriTemplate("/callme/ping")
+                .build();
+
+        private final HttpExchangeAdapter delegate = mock(HttpExchangeAdapter.class);
+        private final CallmeClientProperties.Retry retry = new CallmeClientProperties.Retry();
+
+        @BeforeEach
+        void setUp() {
+            retry.setEnabled(true);
+            retry.setBaseDelay(Duration.ofMillis(200));
+            retry.setMaxDelay(Duration.ofMillis(200));
+        }
+
+        @Test
+        @DisplayName("Nao deve repetir quando o deadline passar antes do fim do backoff")
+        void shouldSkipRetryPastDeadline() {
+            bind(Deadline.after(Duration.ofMillis(100)));
+            when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                    .thenThrow(new ResourceAccessException("Connection reset"));
+            var adapter = new RetryingExchangeAdapter(delegate, "callme", retry, new SimpleMeterRegistry());
+
+            assertThatThrownBy(() -> adapter.exchangeForBody(PING, STRING)).isInstanceOf(ResourceAccessException.class);
+            verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+        }
+
+        @Test
+        @DisplayName("Nao deve repetir chamada que estourou o deadline")
+        void shouldNotRetryDeadlineExceeded() {
+            bind(Deadline.after(Duration.ofSeconds(10)));
+            when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                    .thenThrow(new DeadlineExceededException("callme", "/callme/ping", new IOException("timeout")));
+            var adapter = new RetryingExchangeAdapter(delegate, "callme", retry, new SimpleMeterRegistry());
+
+            assertThatThrownBy(() -> adapter.exchangeForBody(PING, STRING))
+                    .isInstanceOf(DeadlineExceededException.class);
+            verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+        }
+
+        private void bind(Deadline deadline) {
+            var inbound = new MockHttpServletRequest();
+            inbound.setAttribute(Deadline.ATTRIBUTE, deadline);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(inbound));
+        }
+    }
+
+    @Nested
+    @DisplayName("Endpoint")
+    class Endpoint {
+
+        @Test
+        @DisplayName("Deve responder 504 no deadline da requisicao e nao no timeout do cliente")
+        void shouldAnswerGatewayTimeoutAtDeadline() throws Exception {
+            delayMillis.set(CLIENT_TIMEOUT.toMillis() + 1_000);
+            var serviceProperties = new ServiceProperties();
+            var client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+                    .httpRequestValuesProcessor(new DeadlineProcessor())
+                    .build()
+                    .createClient(CallmeServiceClient.class);
+            MockMvc mockMvc = MockMvcBuilders
+                    .standaloneSetup(new CallerResource(new CallerService(client, serviceProperties),
+                            serviceProperties, null))
+                    .addFilters(new DeadlineFilter(serviceProperties.getDeadline()))
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .build();
+
+            long start = System.nanoTime();
+            mockMvc.perform(get("/caller/ping").header(Deadline.HEADER, "300"))
+                    .andExpect(status().isGatewayTimeout());
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+            assertThat(Long.parseLong(receivedBudget.get())).isPositive().isLessThanOrEqualTo(300);
+        }
+    }
+
+    private String ping(Deadline deadline) {
+        return restClient.get()
+                .uri("/callme/ping")
+                .attribute(Deadline.ATTRIBUTE, deadline)
+                .retrieve()
+                .body(String.class);
+    }
+}
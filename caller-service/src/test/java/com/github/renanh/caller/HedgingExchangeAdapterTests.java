@@ -0,0 +1,142 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.client.hedging.HedgingExchangeAdapter;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Hedging Exchange Adapter")
+class HedgingExchangeAdapterTests {
+
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+    private static final HttpRequestValues DELAY_REQUEST = HttpRequestValues.builder()
+            .setUriTemplate("/callme/ping-with-random-delay")
+            .build();
+
+    @Mock
+    private HttpExchangeAdapter delegate;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallmeClientProperties.Hedging hedging = new CallmeClientProperties.Hedging();
+
+    @BeforeEach
+    void setUp() {
+        hedging.setEnabled(true);
+        hedging.setMinSamples(10);
+        hedging.setWindowSize(10);
+        hedging.setMinDelay(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve enviar requisicao duplicada e retornar a resposta mais rapida")
+    void shouldHedgeSlowRequest() {
+        var adapter = new HedgingExchangeAdapter(delegate, "callme", hedging, executor, meterRegistry);
+        warmUp(adapter);
+
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                Thread.sleep(2_000);
+                return "slow";
+            }
+            return "fast";
+        });
+
+        long start = System.nanoTime();
+        String result = adapter.exchangeForBody(DELAY_REQUEST, STRING);
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("http.client.hedging.won").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.hedging.latency").tag("winner", "hedge").timer().count())
+                .isEqualTo(1);
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve executar a chamada principal na thread chamadora")
+    void shouldRunPrimaryOnCallingThread() {
+        var adapter = new HedgingExchangeAdapter(delegate, "callme", hedging, executor, meterRegistry);
+        warmUp(adapter);
+
+        var callingThread = Thread.currentThread();
+        when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                .thenAnswer(invocation -> Thread.currentThread() == callingThread ? "primary" : "executor");
+
+        String result = adapter.exchangeForBody(DELAY_REQUEST, STRING);
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.get("http.client.hedging.sent").counter().count()).isZero();
+        assertThat(meterRegistry.get("http.client.hedging.latency").tag("winner", "primary").timer().count())
+                .isEqualTo(hedging.getMinSamples() + 1);
+    }
+
+    @Test
+    @DisplayName("Nao deve enviar requisicao duplicada quando o budget estiver vazio")
+    void shouldNotHedgeWithoutBudget() {
+        hedging.setBudgetRatio(0);
+        hedging.setBudgetBurst(0);
+        var adapter = new HedgingExchangeAdapter(delegate, "callme", hedging, executor, meterRegistry);
+        warmUp(adapter);
+
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return "slow";
+        });
+
+        String result = adapter.exchangeForBody(DELAY_REQUEST, STRING);
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(meterRegistry.get("http.client.hedging.sent").counter().count()).isZero();
+        assertThat(meterRegistry.get("http.client.hedging.rejected").counter().count()).isEqualTo(1);
+        verify(delegate, times(11)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Deve chamar diretamente endpoints sem politica de hedging")
+    void shouldPassThroughOtherEndpoints() {
+        var adapter = new HedgingExchangeAdapter(delegate, "callme", hedging, executor, meterRegistry);
+        var pingRequest = HttpRequestValues.builder().setUriTemplate("/callme/ping").build();
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenReturn("callme-service(v1)");
+
+        String result = adapter.exchangeForBody(pingRequest, STRING);
+
+        assertThat(result).isEqualTo("callme-service(v1)");
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    private void warmUp(HedgingExchangeAdapter adapter) {
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenReturn("warm-up");
+        for (int i = 0; i < hedging.getMinSamples(); i++) {
+            adapter.exchangeForBody(DELAY_REQUEST, STRING);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import com.github.renanh.caller.infrastructure.observability.HopMetrics;
+import com.github.renanh.caller.infrastructure.observability.HopTiming;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Hop Metrics")
+class HopMetricsTests {
+
+    private static final String URI = "/caller/ping";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HopMetrics hopMetrics = new HopMetrics(meterRegistry, new ServiceProperties.Hop());
+
+    @Nested
+    @DisplayName("Fases")
+    class Phases {
+
+        @Test
+        @DisplayName("Deve descontar o tempo downstream do tempo próprio")
+        void shouldSubtractDownstreamFromSelf() {
+            var timing = new HopTiming();
+            timing.addDownstream(TimeUnit.MILLISECONDS.toNanos(30));
+            timing.addDownstream(TimeUnit.MILLISECONDS.toNanos(20));
+
+            hopMetrics.record(URI, TimeUnit.MILLISECONDS.toNanos(80), timing, -1);
+
+            assertThat(timer("self").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+            assertThat(timer("downstream").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50);
+            assertThat(timer("queue").count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve registrar downstream apenas quando houve chamada")
+        void shouldSkipDownstreamWithoutCalls() {
+            hopMetrics.record(URI, TimeUnit.MILLISECONDS.toNanos(5), new HopTiming(), 0);
+
+            assertThat(timer("self").count()).isOne();
+            assertThat(timer("downstream").count()).isZero();
+            assertThat(timer("queue").count()).isOne();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tempo de fila")
+    class Queue {
+
+        @Test
+        @DisplayName("Deve aceitar o header em micros ou millis")
+        void shouldParseMicrosAndMillis() {
+            long micros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis() - 200);
+            long millis = System.currentTimeMillis() - 200;
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(HopTiming.queueNanos("t=" + micros))).isCloseTo(200, within(100L));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(HopTiming.queueNanos("t=" + millis))).isCloseTo(200, within(100L));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar header ausente ou inválido")
+        void shouldIgnoreMissingOrMalformedHeader() {
+            assertThat(HopTiming.queueNanos(null)).isEqualTo(-1);
+            assertThat(HopTiming.queueNanos("t=abc")).isEqualTo(-1);
+        }
+    }
+
+    private Timer timer(String phase) {
+        return meterRegistry.get("http.server.hop").tags("uri", URI, "phase", phase).timer();
+    }
+}
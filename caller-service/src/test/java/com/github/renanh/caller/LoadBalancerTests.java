@@ -0,0 +1,178 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.client.loadbalancer.Backend;
+import com.github.renanh.caller.infrastructure.client.loadbalancer.LoadBalancer;
+import com.github.renanh.caller.infrastructure.client.loadbalancer.LoadBalancingInterceptor;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("Load Balancer")
+class LoadBalancerTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoadBalancer loadBalancer;
+
+    @AfterEach
+    void tearDown() {
+        loadBalancer.close();
+    }
+
+    private LoadBalancer loadBalancer(String zone, String... endpoints) {
+        var config = new CallmeClientProperties.LoadBalancer();
+        config.setEnabled(true);
+        config.setZone(zone);
+        for (String endpoint : endpoints) {
+            var parts = endpoint.split("@");
+            var entry = new CallmeClientProperties.Endpoint();
+            entry.setUrl(parts[0]);
+            entry.setZone(parts.length > 1 ? parts[1] : null);
+            config.getEndpoints().add(entry);
+        }
+        loadBalancer = new LoadBalancer("callme", "http://callme-service:8080", config, meterRegistry);
+        return loadBalancer;
+    }
+
+    private void respond(Backend backend, Duration latency) {
+        loadBalancer.complete(backend, loadBalancer.start(backend) - latency.toNanos(), false);
+    }
+
+    private long picksOf(Backend backend) {
+        return IntStream.range(0, 200).mapToObj(i -> loadBalancer.choose()).filter(backend::equals).count();
+    }
+
+    @Nested
+    @DisplayName("Escolha")
+    class Choice {
+
+        @Test
+        @DisplayName("Deve preferir o backend com menos requisições em andamento")
+        void shouldPreferFewerInFlight() {
+            loadBalancer("c1", "http://10.0.0.1:8080", "http://10.0.0.2:8080");
+            var busy = loadBalancer.backends().get(0);
+            var idle = loadBalancer.backends().get(1);
+            respond(busy, Duration.ofMillis(5));
+            respond(idle, Duration.ofMillis(5));
+
+            loadBalancer.start(busy);
+            loadBalancer.start(busy);
+
+            assertThat(picksOf(idle)).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Deve desviar do backend lento já na resposta seguinte")
+        void shouldMoveAwayFromSlowBackend() {
+            loadBalancer(null, "http://10.0.0.1:8080", "http://10.0.0.2:8080", "http://10.0.0.3:8080");
+            loadBalancer.backends().forEach(backend -> respond(backend, Duration.ofMillis(5)));
+            var slow = loadBalancer.backends().get(0);
+
+            respond(slow, Duration.ofMillis(300));
+
+            assertThat(picksOf(slow)).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve enviar uma única sonda a um backend ainda sem amostras")
+        void shouldProbeNewBackendOneAtATime() {
+            loadBalancer(null, "http://10.0.0.1:8080", "http://10.0.0.2:8080");
+            var known = loadBalancer.backends().get(0);
+            var fresh = loadBalancer.backends().get(1);
+            respond(known, Duration.ofMillis(50));
+
+            loadBalancer.start(fresh);
+
+            assertThat(picksOf(known)).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("Localidade")
+    class Locality {
+
+        @Test
+        @DisplayName("Deve manter o tráfego na zona local enquanto ela não é claramente pior")
+        void shouldPreferLocalZone() {
+            loadBalancer("c1", "http://10.0.0.1:8080@c1", "http://10.0.1.1:8080@c2");
+            var local = loadBalancer.backends().get(0);
+            var remote = loadBalancer.backends().get(1);
+            respond(local, Duration.ofMillis(15));
+            respond(remote, Duration.ofMillis(10));
+
+            assertThat(picksOf(local)).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Deve cruzar zonas quando o backend local fica lento")
+        void shouldLeaveSlowLocalZone() {
+            loadBalancer("c1", "http://10.0.0.1:8080@c1", "http://10.0.1.1:8080@c2");
+            var local = loadBalancer.backends().get(0);
+            var remote = loadBalancer.backends().get(1);
+            respond(remote, Duration.ofMillis(10));
+            respond(local, Duration.ofMillis(100));
+
+            assertThat(picksOf(remote)).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("LoadBalancingInterceptor")
+    class Interceptor {
+
+        @Test
+        @DisplayName("Deve reescrever o host mantendo caminho e query")
+        void shouldRewriteHost() {
+            loadBalancer(null, "http://10.0.0.7:9090");
+            var builder = RestClient.builder()
+                    .baseUrl("http://callme-service:8080")
+                    .requestInterceptor(new LoadBalancingInterceptor(loadBalancer));
+            var server = MockRestServiceServer.bindTo(builder).build();
+            server.expect(requestTo("http://10.0.0.7:9090/callme/ping?x=1"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(withSuccess());
+
+            builder.build().get().uri("/callme/ping?x=1").retrieve().toBodilessEntity();
+
+            server.verify();
+            assertThat(loadBalancer.backends().getFirst().inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve penalizar um 503 mesmo quando responde rápido")
+        void shouldPenalizeServiceUnavailable() {
+            loadBalancer(null, "http://10.0.0.1:8080", "http://10.0.0.2:8080");
+            var healthy = loadBalancer.backends().get(1);
+            respond(loadBalancer.backends().get(0), Duration.ofMillis(5));
+            respond(healthy, Duration.ofMillis(20));
+            var builder = RestClient.builder()
+                    .baseUrl("http://callme-service:8080")
+                    .requestInterceptor(new LoadBalancingInterceptor(loadBalancer));
+            var server = MockRestServiceServer.bindTo(builder).build();
+            server.expect(requestTo("http://10.0.0.1:8080/callme/ping"))
+                    .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+            assertThatThrownBy(() -> builder.build().get().uri("/callme/ping").retrieve().toBodilessEntity())
+                    .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+
+            assertThat(picksOf(healthy)).isEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.domain.event.ProcessingEvent;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.config.NativeConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Native Hints")
+class NativeHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsTests() {
+        new NativeConfig.ServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o proxy exatamente como o HttpServiceProxyFactory o cria")
+    void shouldRegisterClientProxy() {
+        var client = HttpServiceProxyFactory
+                .builderFor(RestClientAdapter.create(RestClient.create("http://localhost")))
+                .build()
+                .createClient(CallmeServiceClient.class);
+
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(client.getClass().getInterfaces()))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(CallmeServiceClient.class, "ping"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Deve registrar os campos do evento JFR")
+    void shouldRegisterProcessingEventFields() {
+        assertThat(RuntimeHintsPredicates.reflection().onFieldAccess(ProcessingEvent.class, "status"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onFieldAccess(ProcessingEvent.class, "endpoint"))
+                .accepts(hints);
+    }
+}
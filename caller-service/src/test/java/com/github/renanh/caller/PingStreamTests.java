@@ -0,0 +1,214 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.api.handler.GlobalExceptionHandler;
+import com.github.renanh.caller.api.resource.CallerResource;
+import com.github.renanh.caller.domain.service.StreamingPingService;
+import com.github.renanh.caller.infrastructure.client.CallmeServiceClient;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.config.ServiceProperties;
+import com.github.renanh.caller.infrastructure.observability.HopTiming;
+import com.github.renanh.caller.infrastructure.observability.HopTimingProcessor;
+import com.github.renanh.caller.infrastructure.observability.ServerTiming;
+import com.github.renanh.caller.infrastructure.observability.ServerTimingInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Ping Stream")
+class PingStreamTests {
+
+    private static final String CALLME_TIMING = "callme-service.self;dur=2.500, callme-service.queue;dur=0.300";
+
+    private final JsonMapper jsonMapper = new JsonMapper();
+
+    @Nested
+    @DisplayName("Server-Timing")
+    class ServerTimingHeader {
+
+        @Test
+        @DisplayName("Deve reportar as fases do hop seguidas das do downstream")
+        void shouldRelayDownstreamTiming() {
+            var timing = new HopTiming(TimeUnit.MILLISECONDS.toNanos(1));
+            timing.addDownstream(TimeUnit.MILLISECONDS.toNanos(40));
+            timing.setDownstreamServerTiming(CALLME_TIMING);
+
+            var durations = ServerTiming.parse(ServerTiming.of("caller-service", timing));
+
+            assertThat(durations).containsKeys("caller-service.self", "callme-service.self", "callme-service.queue")
+                    .containsEntry("caller-service.queue", 1.0)
+                    .containsEntry("caller-service.downstream", 40.0)
+                    .containsEntry("callme-service.self", 2.5);
+        }
+
+        @Test
+        @DisplayName("Deve capturar o header da resposta downstream fora de uma requisição")
+        void shouldCaptureDownstreamHeader() {
+            var builder = RestClient.builder()
+                    .baseUrl("http://callme-service:8080")
+                    .requestInterceptor(new ServerTimingInterceptor());
+            var server = MockRestServiceServer.bindTo(builder).build();
+            var headers = new HttpHeaders();
+            headers.set(ServerTiming.HEADER, CALLME_TIMING);
+            server.expect(requestTo("http://callme-service:8080/callme/ping"))
+                    .andRespond(withSuccess("pong", MediaType.TEXT_PLAIN).headers(headers));
+            var client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(builder.build()))
+                    .httpRequestValuesProcessor(new HopTimingProcessor())
+                    .build()
+                    .createClient(CallmeServiceClient.class);
+
+            var timing = new HopTiming();
+            timing.run(client::ping);
+
+            assertThat(timing.downstreamServerTiming()).isEqualTo(CALLME_TIMING);
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Deve enviar um resultado por chamada e um resumo por janela")
+        void shouldStreamCallsAndWindows() throws Exception {
+            var properties = new ServiceProperties();
+            properties.getStream().setWindow(Duration.ofMillis(500));
+            var service = new StreamingPingService(new StubClient(), properties, jsonMapper);
+            var mockMvc = MockMvcBuilders.standaloneSetup(new CallerResource(null, properties, service)).build();
+
+            var result = mockMvc.perform(get("/caller/ping-stream?rate=20&seconds=1")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            result.getAsyncResult(10_000);
+
+            var calls = new ArrayList<JsonNode>();
+            var windows = new ArrayList<JsonNode>();
+            for (String line : result.getResponse().getContentAsString().split("\n")) {
+                var event = jsonMapper.readTree(line);
+                (event.get("type").asString().equals("call") ? calls : windows).add(event);
+            }
+
+            assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+            assertThat(calls).hasSize(20).allSatisfy(call -> {
+                assertThat(call.get("status").asString()).isEqualTo("200");
+                assertThat(call.get("hops").get("callme-service.self").asDouble()).isEqualTo(2.5);
+            });
+            assertThat(windows).hasSizeGreaterThanOrEqualTo(2);
+            assertThat(windows.stream().mapToLong(window -> window.get("calls").asLong()).sum()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Deve incluir a latencia das chamadas com timeout nos percentis da janela")
+        void shouldIncludeTimedOutLatencies() throws Exception {
+            var properties = new ServiceProperties();
+            var client = new StubClient() {
+                @Override
+                public String ping() {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new DeadlineExceededException("callme", "/callme/ping");
+                }
+            };
+            var service = new StreamingPingService(client, properties, jsonMapper);
+            var mockMvc = MockMvcBuilders.standaloneSetup(new CallerResource(null, properties, service)).build();
+
+            var result = mockMvc.perform(get("/caller/ping-stream?rate=10&seconds=1")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            result.getAsyncResult(10_000);
+
+            var windows = new ArrayList<JsonNode>();
+            for (String line : result.getResponse().getContentAsString().split("\n")) {
+                var event = jsonMapper.readTree(line);
+                if (event.get("type").asString().equals("window") && event.get("calls").asLong() > 0) {
+                    windows.add(event);
+                }
+            }
+
+            assertThat(windows).isNotEmpty().allSatisfy(window -> {
+                assertThat(window.get("statuses").get("timeout").asLong()).isEqualTo(window.get("calls").asLong());
+                assertThat(window.get("p50").asDouble()).isGreaterThanOrEqualTo(100);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Limites")
+    class Limits {
+
+        private final ServiceProperties properties = new ServiceProperties();
+        private final StreamingPingService service = new StreamingPingService(new StubClient(), properties, jsonMapper);
+        private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CallerResource(null, properties, service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        @Test
+        @DisplayName("Deve recusar parametros fora dos limites com 400")
+        void shouldRejectInvalidParameters() throws Exception {
+            mockMvc.perform(get("/caller/ping-stream?rate=0").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/caller/ping-stream?endpoint=unknown").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve recusar novos streams com 503 quando o limite estiver ocupado")
+        void shouldRejectStreamsOverTheLimit() throws Exception {
+            properties.getStream().setMaxStreams(1);
+            properties.getStream().setWindow(Duration.ofMillis(500));
+
+            var running = mockMvc.perform(get("/caller/ping-stream?rate=1&seconds=2")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(get("/caller/ping-stream?rate=1&seconds=1").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().isServiceUnavailable());
+            running.getAsyncResult(10_000);
+        }
+    }
+
+    /** Answers at once, with the timing the interceptor would have captured from callme-service. */
+    private static class StubClient implements CallmeServiceClient {
+
+        @Override
+        public String ping() {
+            HopTiming.current().setDownstreamServerTiming(CALLME_TIMING);
+            return "pong";
+        }
+
+        @Override
+        public String pingWithRandomError() {
+            return ping();
+        }
+
+        @Override
+        public String pingWithRandomDelay() {
+            return ping();
+        }
+    }
+}
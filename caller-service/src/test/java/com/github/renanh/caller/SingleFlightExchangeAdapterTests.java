@@ -0,0 +1,210 @@
+package com.github.renanh.caller;
+
+import com.github.renanh.caller.infrastructure.client.coalescing.SingleFlightExchangeAdapter;
+import com.github.renanh.caller.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.caller.infrastructure.config.CallmeClientProperties;
+import com.github.renanh.caller.infrastructure.deadline.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Single Flight Exchange Adapter")
+class SingleFlightExchangeAdapterTests {
+
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+    private static final HttpRequestValues PING_REQUEST = HttpRequestValues.builder()
+            .setHttpMethod(HttpMethod.GET)
+            .setUriTemplate("/callme/ping")
+            .build();
+    private static final int CALLERS = 50;
+
+    @Mock
+    private HttpExchangeAdapter delegate;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallmeClientProperties.Coalescing coalescing = new CallmeClientProperties.Coalescing();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        coalescing.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma unica chamada downstream entre chamadas concorrentes")
+    void shouldShareSingleDownstreamCall() throws Exception {
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            release.await();
+            return ResponseEntity.ok("callme-service(v1)");
+        });
+        var adapter = new SingleFlightExchangeAdapter(delegate, "callme", coalescing, meterRegistry);
+
+        List<Future<String>> results = submitConcurrentPings(adapter);
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("callme-service(v1)");
+        }
+        verify(delegate, times(1)).exchangeForEntity(any(), any(STRING.getClass()));
+        assertThat(meterRegistry.get("http.client.coalescing.requests").tag("role", "waiter").counter().count())
+                .isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("http.client.coalescing.dedup.ratio").gauge().value())
+                .isEqualTo((CALLERS - 1) / (double) CALLERS);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha da chamada compartilhada para todos os aguardando")
+    void shouldPropagateFailureToWaiters() throws Exception {
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            release.await();
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        });
+        var adapter = new SingleFlightExchangeAdapter(delegate, "callme", coalescing, meterRegistry);
+
+        List<Future<String>> results = submitConcurrentPings(adapter);
+
+        for (Future<String> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(HttpServerErrorException.class);
+                continue;
+            }
+            throw new AssertionError("Expected the shared failure");
+        }
+        verify(delegate, times(1)).exchangeForEntity(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Deve iniciar nova chamada depois que a anterior terminar")
+    void shouldNotReuseCompletedFlight() {
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass())))
+                .thenReturn(ResponseEntity.ok("callme-service(v1)"));
+        var adapter = new SingleFlightExchangeAdapter(delegate, "callme", coalescing, meterRegistry);
+
+        adapter.exchangeForBody(PING_REQUEST, STRING);
+        adapter.exchangeForBody(PING_REQUEST, STRING);
+
+        verify(delegate, times(2)).exchangeForEntity(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Deve desistir da chamada compartilhada quando o proprio deadline expirar")
+    void shouldStopWaitingAtOwnDeadline() throws Exception {
+        coalescing.setDeadlineBucket(Duration.ofNanos(Long.MAX_VALUE));
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            release.await();
+            return ResponseEntity.ok("callme-service(v1)");
+        });
+        var adapter = new SingleFlightExchangeAdapter(delegate, "callme", coalescing, meterRegistry);
+
+        Future<String> leader = submitPing(adapter, Duration.ofSeconds(10));
+        awaitLeader();
+        Future<String> follower = submitPing(adapter, Duration.ofMillis(100));
+
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(DeadlineExceededException.class);
+        release.countDown();
+        assertThat(leader.get()).isEqualTo("callme-service(v1)");
+        verify(delegate, times(1)).exchangeForEntity(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Deve fazer a propria chamada quando o deadline do lider expirar antes")
+    void shouldCallOnItsOwnWhenLeaderDeadlineExpires() throws Exception {
+        coalescing.setDeadlineBucket(Duration.ofNanos(Long.MAX_VALUE));
+        var calls = new AtomicInteger();
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass()))).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                release.await();
+                throw new DeadlineExceededException("callme", "/callme/ping");
+            }
+            return ResponseEntity.ok("callme-service(v1)");
+        });
+        var adapter = new SingleFlightExchangeAdapter(delegate, "callme", coalescing, meterRegistry);
+
+        Future<String> leader = submitPing(adapter, Duration.ofSeconds(10));
+        awaitLeader();
+        Future<String> follower = submitPing(adapter, Duration.ofSeconds(10));
+        var waiting = meterRegistry.get("http.client.coalescing.waiting").gauge();
+        while (waiting.value() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(follower.get()).isEqualTo("callme-service(v1)");
+        verify(delegate, times(2)).exchangeForEntity(any(), any(STRING.getClass()));
+    }
+
+    private Future<String> submitPing(SingleFlightExchangeAdapter adapter, Duration budget) {
+        return executor.submit(() -> {
+            var request = new MockHttpServletRequest();
+            request.setAttribute(Deadline.ATTRIBUTE, Deadline.after(budget));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                return adapter.exchangeForBody(PING_REQUEST, STRING);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    private void awaitLeader() throws InterruptedException {
+        var leaders = meterRegistry.get("http.client.coalescing.requests").tag("role", "leader").counter();
+        while (leaders.count() < 1) {
+            Thread.sleep(5);
+        }
+    }
+
+    private List<Future<String>> submitConcurrentPings(SingleFlightExchangeAdapter adapter) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> adapter.exchangeForBody(PING_REQUEST, STRING)));
+        }
+        var waiting = meterRegistry.get("http.client.coalescing.waiting").gauge();
+        while (waiting.value() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+}
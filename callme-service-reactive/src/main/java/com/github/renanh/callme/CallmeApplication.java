@@ -0,0 +1,12 @@
+package com.github.renanh.callme;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CallmeApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CallmeApplication.class, args);
+    }
+}
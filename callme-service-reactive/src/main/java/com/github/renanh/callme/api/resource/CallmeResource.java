@@ -0,0 +1,62 @@
+package com.github.renanh.callme.api.resource;
+
+import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/callme")
+@Tag(name = "Callme Service", description = "Backend service with error simulation and JFR monitoring")
+@RequiredArgsConstructor
+public class CallmeResource {
+
+    private final CallmeService callmeService;
+    private final ServiceProperties serviceProperties;
+
+    @GetMapping("/ping")
+    @Operation(summary = "Simple ping",
+            description = "Returns a simple response with service version")
+    @ApiResponse(responseCode = "200", description = "Successful ping")
+    public Mono<ResponseEntity<String>> ping() {
+        var maxAge = serviceProperties.getPingCacheMaxAge();
+        var cacheControl = maxAge.isPositive() ? CacheControl.maxAge(maxAge) : CacheControl.empty();
+        return callmeService.ping().map(body -> ResponseEntity.ok().cacheControl(cacheControl).body(body));
+    }
+
+    @GetMapping("/ping-with-random-error")
+    @Operation(summary = "Ping with random error",
+            description = "50% chance of returning HTTP 504 Gateway Timeout")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful response"),
+            @ApiResponse(responseCode = "504", description = "Simulated gateway timeout")
+    })
+    public Mono<ResponseEntity<String>> pingWithRandomError() {
+        return callmeService.pingWithRandomError().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-with-random-delay")
+    @Operation(summary = "Ping with random delay",
+            description = "Random delay between 0-3000ms, recorded via JFR")
+    @ApiResponse(responseCode = "200", description = "Successful response after delay")
+    public Mono<ResponseEntity<String>> pingWithRandomDelay() {
+        return callmeService.pingWithRandomDelay().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-with-random-delay-async")
+    @Operation(summary = "Ping with random delay (non-blocking)",
+            description = "Alias of /ping-with-random-delay, kept for parity with the servlet variant")
+    @ApiResponse(responseCode = "200", description = "Successful response after delay")
+    public Mono<ResponseEntity<String>> pingWithRandomDelayAsync() {
+        return pingWithRandomDelay();
+    }
+}
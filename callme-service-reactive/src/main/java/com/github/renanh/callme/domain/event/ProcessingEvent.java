@@ -0,0 +1,35 @@
+package com.github.renanh.callme.domain.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+@Name("ProcessingEvent")
+@Label("Processing Event")
+@Category("Sample Istio Services")
+@Description("Records processing time for request handling")
+@Getter
+@Setter
+public class ProcessingEvent extends Event {
+
+    /** Only assigned when the event is enabled, so requests pay nothing for it while JFR is off. */
+    @Label("Event ID")
+    @Description("Unique identifier for this processing event")
+    private String eventId;
+
+    @Label("Endpoint")
+    @Description("Endpoint that handled the request")
+    private String endpoint;
+
+    @Label("Processing Time (ms)")
+    @Description("Time taken to process the request in milliseconds")
+    private long processingTimeMs;
+
+    @Label("Status")
+    @Description("Processing status (SUCCESS, ERROR, INTERRUPTED, CANCELLED)")
+    private String status;
+}
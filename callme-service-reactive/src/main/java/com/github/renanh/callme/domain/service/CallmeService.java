@@ -0,0 +1,131 @@
+package com.github.renanh.callme.domain.service;
+
+import com.github.renanh.callme.domain.event.ProcessingEvent;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@Getter
+public class CallmeService {
+
+    private final ServiceProperties serviceProperties;
+    private final String instanceId;
+    @Getter(AccessLevel.NONE)
+    private final FaultInjector faultInjector;
+
+    // The version is fixed at startup, so the response and log context are built once
+    @Getter(AccessLevel.NONE)
+    private final String response;
+    @Getter(AccessLevel.NONE)
+    private final String logContext;
+    @Getter(AccessLevel.NONE)
+    private final String faultMessage;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    public CallmeService(ServiceProperties serviceProperties, FaultInjector faultInjector) {
+        this.serviceProperties = serviceProperties;
+        this.faultInjector = faultInjector;
+        this.instanceId = UUID.randomUUID().toString().substring(0, 8);
+        this.response = "callme-service(" + serviceProperties.getVersion() + ")";
+        this.logContext = "version=" + serviceProperties.getVersion() + ", instanceId=" + instanceId;
+        this.faultMessage = "Simulated fault from " + response + ", instanceId=" + instanceId;
+    }
+
+    public Mono<String> ping() {
+        return Mono.fromSupplier(() -> {
+            var processingEvent = newProcessingEvent("ping");
+            processingEvent.begin();
+            log.debug("Received ping request, {}", logContext);
+            processingEvent.setStatus("SUCCESS");
+            commit(processingEvent);
+            return response;
+        });
+    }
+
+    public Mono<String> pingWithRandomError() {
+        return Mono.defer(() -> {
+            var processingEvent = newProcessingEvent(FaultInjector.PING_WITH_RANDOM_ERROR);
+            processingEvent.begin();
+            log.debug("Received ping-with-random-error request, {}", logContext);
+
+            var profile = faultInjector.profile(FaultInjector.PING_WITH_RANDOM_ERROR);
+            long delayMs = faultInjector.delayMillis(profile);
+            Mono<String> outcome;
+            if (faultInjector.shouldFail(profile)) {
+                log.debug("Simulating {} error, instanceId={}", profile.errorStatus(), instanceId);
+                outcome = Mono.error(new ResponseStatusException(profile.errorStatus(), faultMessage));
+            } else {
+                outcome = Mono.just(response);
+            }
+            return (delayMs > 0 ? Mono.delay(Duration.ofMillis(delayMs)).then(outcome) : outcome)
+                    .doOnSuccess(response -> processingEvent.setStatus("SUCCESS"))
+                    .doOnError(ex -> processingEvent.setStatus("ERROR"))
+                    .doOnCancel(() -> processingEvent.setStatus("CANCELLED"))
+                    .doFinally(signal -> {
+                        processingEvent.setProcessingTimeMs(delayMs);
+                        commit(processingEvent);
+                    });
+        });
+    }
+
+    /**
+     * Same contract as the servlet variant, but the delay is a {@link Mono#delay} on the shared
+     * parallel scheduler, so no thread is held while the request waits.
+     */
+    public Mono<String> pingWithRandomDelay() {
+        return Mono.defer(() -> {
+            var processingEvent = newProcessingEvent(FaultInjector.PING_WITH_RANDOM_DELAY);
+            processingEvent.begin();
+
+            var profile = faultInjector.profile(FaultInjector.PING_WITH_RANDOM_DELAY);
+            long delayMs = faultInjector.delayMillis(profile);
+            boolean fail = faultInjector.shouldFail(profile);
+            if (log.isDebugEnabled()) {
+                log.debug("Received ping-with-random-delay request, {}, delayMs={}", logContext, delayMs);
+            }
+
+            return Mono.delay(Duration.ofMillis(delayMs))
+                    .flatMap(tick -> fail
+                            ? Mono.<String>error(new ResponseStatusException(profile.errorStatus(), faultMessage))
+                            : Mono.just(response))
+                    .doOnSuccess(response -> processingEvent.setStatus("SUCCESS"))
+                    .doOnError(ex -> processingEvent.setStatus("ERROR"))
+                    .doOnCancel(() -> processingEvent.setStatus("CANCELLED"))
+                    .doFinally(signal -> {
+                        processingEvent.setProcessingTimeMs(delayMs);
+                        commit(processingEvent);
+                    });
+        });
+    }
+
+    public String getVersion() {
+        return serviceProperties.getVersion();
+    }
+
+    private ProcessingEvent newProcessingEvent(String endpoint) {
+        var processingEvent = new ProcessingEvent();
+        if (processingEvent.isEnabled()) {
+            processingEvent.setEndpoint(endpoint);
+            processingEvent.setEventId(instanceId + "-" + eventSequence.incrementAndGet());
+        }
+        return processingEvent;
+    }
+
+    private void commit(ProcessingEvent processingEvent) {
+        processingEvent.end();
+        if (processingEvent.shouldCommit()) {
+            processingEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.renanh.callme.domain.service;
+
+import org.apache.commons.lang3.Validate;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Faults injected into one endpoint: a share of requests answered with {@code errorStatus}, and added latency.
+ */
+public record FaultProfile(double errorRate, HttpStatus errorStatus, LatencyProfile latency) {
+
+    public static final FaultProfile NONE = new FaultProfile(0, HttpStatus.GATEWAY_TIMEOUT, LatencyProfile.none());
+
+    public FaultProfile {
+        Validate.inclusiveBetween(0.0, 1.0, errorRate, "errorRate must be between 0 and 1");
+        Validate.isTrue(errorStatus != null && errorStatus.isError(), "errorStatus must be a 4xx or 5xx status");
+        Validate.notNull(latency, "latency must not be null");
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.renanh.callme.domain.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+
+import java.time.Duration;
+
+/**
+ * Added latency of one endpoint. Distribution parameters are derived once from the configured
+ * percentiles; samples are clamped to [min, max].
+ */
+@Getter
+public final class LatencyProfile {
+
+    /** Standard normal quantile of 0.99. */
+    private static final double Z_99 = 2.3263478740408408;
+
+    private static final LatencyProfile NONE = new LatencyProfile(LatencyDistribution.NONE,
+            Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, Duration.ZERO, Duration.ZERO);
+
+    private final LatencyDistribution distribution;
+    private final Duration min;
+    private final Duration max;
+    private final Duration p50;
+    private final Duration p99;
+    private final double slowFraction;
+    private final Duration slowP50;
+    private final Duration slowP99;
+
+    @Getter(AccessLevel.NONE)
+    private final long minMillis;
+    @Getter(AccessLevel.NONE)
+    private final long maxMillis;
+    @Getter(AccessLevel.NONE)
+    private final double mu;
+    @Getter(AccessLevel.NONE)
+    private final double sigma;
+    @Getter(AccessLevel.NONE)
+    private final double slowMu;
+    @Getter(AccessLevel.NONE)
+    private final double slowSigma;
+    @Getter(AccessLevel.NONE)
+    private final double alpha;
+    @Getter(AccessLevel.NONE)
+    private final double scale;
+
+    public LatencyProfile(LatencyDistribution distribution, Duration min, Duration max, Duration p50, Duration p99,
+                          double slowFraction, Duration slowP50, Duration slowP99) {
+        Validate.notNull(distribution, "distribution must not be null");
+        Validate.isTrue(!min.isNegative() && min.compareTo(max) <= 0, "min must be between 0 and max");
+        this.distribution = distribution;
+        this.min = min;
+        this.max = max;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.slowFraction = slowFraction;
+        this.slowP50 = slowP50;
+        this.slowP99 = slowP99;
+        this.minMillis = min.toMillis();
+        this.maxMillis = max.toMillis();
+
+        if (distribution == LatencyDistribution.LOGNORMAL || distribution == LatencyDistribution.BIMODAL) {
+            validatePercentiles(p50, p99, "p50", "p99");
+        }
+        if (distribution == LatencyDistribution.PARETO) {
+            Validate.isTrue(p50.isPositive() && p99.compareTo(p50) > 0, "p99 must be greater than p50 > 0");
+        }
+        if (distribution == LatencyDistribution.BIMODAL) {
+            validatePercentiles(slowP50, slowP99, "slowP50", "slowP99");
+            Validate.inclusiveBetween(0.0, 1.0, slowFraction, "slowFraction must be between 0 and 1");
+        }
+
+        this.mu = Math.log(Math.max(p50.toMillis(), 1));
+        this.sigma = Math.log((double) Math.max(p99.toMillis(), 1) / Math.max(p50.toMillis(), 1)) / Z_99;
+        this.slowMu = Math.log(Math.max(slowP50.toMillis(), 1));
+        this.slowSigma = Math.log((double) Math.max(slowP99.toMillis(), 1) / Math.max(slowP50.toMillis(), 1)) / Z_99;
+        // Pareto quantile: scale * (1 - q)^(-1/alpha), solved for q = 0.5 and q = 0.99
+        this.alpha = p99.compareTo(p50) > 0 ? Math.log(50) / Math.log((double) p99.toMillis() / p50.toMillis()) : 1;
+        this.scale = p50.toMillis() * Math.pow(0.5, 1 / alpha);
+    }
+
+    public static LatencyProfile none() {
+        return NONE;
+    }
+
+    public static LatencyProfile uniform(Duration min, Duration max) {
+        return new LatencyProfile(LatencyDistribution.UNIFORM, min, max, Duration.ZERO, Duration.ZERO,
+                0, Duration.ZERO, Duration.ZERO);
+    }
+
+    public long sampleMillis(FaultGenerator random) {
+        double millis = switch (distribution) {
+            case NONE -> 0;
+            case UNIFORM -> minMillis + random.nextInt((int) (maxMillis - minMillis + 1));
+            case LOGNORMAL -> Math.exp(mu + sigma * random.nextGaussian());
+            case PARETO -> scale * Math.pow(1 - random.nextDouble(), -1 / alpha);
+            case BIMODAL -> random.nextDouble() < slowFraction
+                    ? Math.exp(slowMu + slowSigma * random.nextGaussian())
+                    : Math.exp(mu + sigma * random.nextGaussian());
+        };
+        return Math.clamp(Math.round(millis), minMillis, maxMillis);
+    }
+
+    private static void validatePercentiles(Duration p50, Duration p99, String p50Name, String p99Name) {
+        Validate.isTrue(p50.isPositive() && p99.compareTo(p50) >= 0,
+                "%s must be positive and %s not lower than it", p50Name, p99Name);
+    }
+}
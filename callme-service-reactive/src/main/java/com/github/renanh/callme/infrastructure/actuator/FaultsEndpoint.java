@@ -0,0 +1,120 @@
+package com.github.renanh.callme.infrastructure.actuator;
+
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.domain.service.FaultProfile;
+import com.github.renanh.callme.domain.service.LatencyDistribution;
+import com.github.renanh.callme.domain.service.LatencyProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@code /actuator/faults}: reads and replaces fault profiles without a restart. A POST to
+ * {@code /actuator/faults/{endpoint}} only changes the fields present in the body; DELETE restores
+ * the configured profile.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "faults")
+@RequiredArgsConstructor
+public class FaultsEndpoint {
+
+    private final FaultInjector faultInjector;
+
+    @ReadOperation
+    public Map<String, FaultProfileDescriptor> profiles() {
+        var descriptors = new LinkedHashMap<String, FaultProfileDescriptor>();
+        faultInjector.profiles().forEach((endpoint, profile) ->
+                descriptors.put(endpoint, FaultProfileDescriptor.of(profile)));
+        return descriptors;
+    }
+
+    @ReadOperation
+    public FaultProfileDescriptor profile(@Selector String endpoint) {
+        var profile = faultInjector.profiles().get(endpoint);
+        if (profile == null) {
+            throw new InvalidEndpointRequestException("Unknown endpoint " + endpoint, "Unknown endpoint");
+        }
+        return FaultProfileDescriptor.of(profile);
+    }
+
+    @WriteOperation
+    public FaultProfileDescriptor update(@Selector String endpoint,
+                                         @Nullable Double errorRate,
+                                         @Nullable Integer errorStatus,
+                                         @Nullable LatencyDistribution distribution,
+                                         @Nullable Long minMs,
+                                         @Nullable Long maxMs,
+                                         @Nullable Long p50Ms,
+                                         @Nullable Long p99Ms,
+                                         @Nullable Double slowFraction,
+                                         @Nullable Long slowP50Ms,
+                                         @Nullable Long slowP99Ms) {
+        return validated(() -> {
+            var current = faultInjector.profile(endpoint);
+            var latency = current.latency();
+            var updated = new FaultProfile(
+                    errorRate != null ? errorRate : current.errorRate(),
+                    errorStatus != null ? HttpStatus.valueOf(errorStatus) : current.errorStatus(),
+                    new LatencyProfile(
+                            distribution != null ? distribution : latency.getDistribution(),
+                            millisOr(minMs, latency.getMin()),
+                            millisOr(maxMs, latency.getMax()),
+                            millisOr(p50Ms, latency.getP50()),
+                            millisOr(p99Ms, latency.getP99()),
+                            slowFraction != null ? slowFraction : latency.getSlowFraction(),
+                            millisOr(slowP50Ms, latency.getSlowP50()),
+                            millisOr(slowP99Ms, latency.getSlowP99())));
+            faultInjector.update(endpoint, updated);
+            log.info("Fault profile of {} updated to {}", endpoint, updated);
+            return FaultProfileDescriptor.of(updated);
+        });
+    }
+
+    @DeleteOperation
+    public FaultProfileDescriptor reset(@Selector String endpoint) {
+        return validated(() -> {
+            faultInjector.reset(endpoint);
+            log.info("Fault profile of {} reset to configuration", endpoint);
+            return FaultProfileDescriptor.of(faultInjector.profile(endpoint));
+        });
+    }
+
+    private static Duration millisOr(@Nullable Long millis, Duration current) {
+        return millis != null ? Duration.ofMillis(millis) : current;
+    }
+
+    private static <T> T validated(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage());
+        }
+    }
+
+    public record FaultProfileDescriptor(double errorRate, int errorStatus, LatencyDistribution distribution,
+                                         long minMs, long maxMs, long p50Ms, long p99Ms,
+                                         double slowFraction, long slowP50Ms, long slowP99Ms) {
+
+        static FaultProfileDescriptor of(FaultProfile profile) {
+            var latency = profile.latency();
+            return new FaultProfileDescriptor(profile.errorRate(), profile.errorStatus().value(),
+                    latency.getDistribution(), latency.getMin().toMillis(), latency.getMax().toMillis(),
+                    latency.getP50().toMillis(), latency.getP99().toMillis(), latency.getSlowFraction(),
+                    latency.getSlowP50().toMillis(), latency.getSlowP99().toMillis());
+        }
+    }
+}
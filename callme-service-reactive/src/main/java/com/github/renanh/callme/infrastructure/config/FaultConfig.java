@@ -0,0 +1,27 @@
+package com.github.renanh.callme.infrastructure.config;
+
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class FaultConfig {
+
+    @Bean
+    public FaultGenerator faultGenerator(ServiceProperties serviceProperties) {
+        Long seed = serviceProperties.getFault().getSeed();
+        if (seed == null) {
+            return FaultGenerator.unseeded();
+        }
+        log.info("Fault generator seeded with {}, errors and delays will replay in request order", seed);
+        return FaultGenerator.seeded(seed);
+    }
+
+    @Bean
+    public FaultInjector faultInjector(FaultGenerator faultGenerator, ServiceProperties serviceProperties) {
+        return new FaultInjector(faultGenerator, serviceProperties.getFault().toFaultProfiles());
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.renanh.callme.infrastructure.observability;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Time one request spent waiting on downstream calls. Put in the Reactor context by
+ * {@link HopTimingWebFilter}; callme-service has no downstream, so only self and queue time are recorded.
+ */
+public final class HopTiming {
+
+    static final String CONTEXT_KEY = HopTiming.class.getName();
+
+    /** Set by the upstream when it sends the request, as {@code t=<epoch micros>}. */
+    public static final String REQUEST_START_HEADER = "X-Request-Start";
+
+    private static final AtomicLongFieldUpdater<HopTiming> DOWNSTREAM_NANOS =
+            AtomicLongFieldUpdater.newUpdater(HopTiming.class, "downstreamNanos");
+
+    private volatile long downstreamNanos;
+    private volatile boolean downstreamCalled;
+
+    public void addDownstream(long nanos) {
+        downstreamCalled = true;
+        DOWNSTREAM_NANOS.addAndGet(this, nanos);
+    }
+
+    public long downstreamNanos() {
+        return downstreamNanos;
+    }
+
+    public boolean downstreamCalled() {
+        return downstreamCalled;
+    }
+
+    /**
+     * Time since the upstream stamped {@link #REQUEST_START_HEADER}: network, accept queue and worker
+     * hand-off. Returns -1 when the header is absent or malformed. Accepts epoch millis as well as micros.
+     */
+    public static long queueNanos(String requestStart) {
+        if (requestStart == null) {
+            return -1;
+        }
+        String value = requestStart.startsWith("t=") ? requestStart.substring(2) : requestStart;
+        long startMicros;
+        try {
+            startMicros = Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+        if (startMicros < 100_000_000_000_000L) {
+            startMicros *= 1000;
+        }
+        return Math.max(0, epochMicros() - startMicros) * 1000;
+    }
+
+    private static long epochMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1000;
+    }
+}
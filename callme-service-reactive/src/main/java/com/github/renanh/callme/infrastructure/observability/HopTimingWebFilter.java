@@ -0,0 +1,62 @@
+package com.github.renanh.callme.infrastructure.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts a {@link HopTiming} in the Reactor context of each request and records it into
+ * {@link HopMetrics} and the {@link RequestLog} when the exchange completes.
+ */
+@RequiredArgsConstructor
+public class HopTimingWebFilter implements WebFilter {
+
+    private static final String ERROR_STATUS = HopTimingWebFilter.class.getName() + ".errorStatus";
+
+    private final HopMetrics hopMetrics;
+    private final RequestLog requestLog;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getPath().value().startsWith("/actuator")) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        long queueNanos = HopTiming.queueNanos(exchange.getRequest().getHeaders().getFirst(HopTiming.REQUEST_START_HEADER));
+        var timing = new HopTiming();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(HopTiming.CONTEXT_KEY, timing))
+                .doOnError(ex -> exchange.getAttributes().put(ERROR_STATUS, errorStatus(ex)))
+                .doFinally(signal -> {
+                    long totalNanos = System.nanoTime() - start;
+                    PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    String uri = pattern != null ? pattern.getPatternString() : "UNKNOWN";
+                    hopMetrics.record(uri, totalNanos, timing, queueNanos);
+                    requestLog.completed(exchange.getRequest().getMethod().name(), uri,
+                            status(exchange), totalNanos);
+                });
+    }
+
+    // Errors not handled inside the chain only get their status from the WebExceptionHandlers, after this filter
+    private static int status(ServerWebExchange exchange) {
+        Integer errorStatus = exchange.getAttribute(ERROR_STATUS);
+        if (errorStatus != null) {
+            return errorStatus;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : HttpStatus.OK.value();
+    }
+
+    private static int errorStatus(Throwable ex) {
+        return ex instanceof ErrorResponse errorResponse
+                ? errorResponse.getStatusCode().value()
+                : HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.renanh.callme;
+
+import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Callme Service (reactive)")
+class CallmeServiceTests {
+
+    @Mock
+    private ServiceProperties serviceProperties;
+
+    private CallmeService callmeService;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceProperties.getVersion()).thenReturn("v1");
+        callmeService = new CallmeService(serviceProperties, new FaultInjector(FaultGenerator.unseeded(),
+                new ServiceProperties().getFault().toFaultProfiles()));
+    }
+
+    @Nested
+    @DisplayName("ping()")
+    class PingMethod {
+
+        @Test
+        @DisplayName("Deve retornar resposta formatada com versao do servico")
+        void shouldReturnFormattedResponse() {
+            StepVerifier.create(callmeService.ping())
+                    .expectNext("callme-service(v1)")
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("pingWithRandomError()")
+    class PingWithRandomErrorMethod {
+
+        @Test
+        @DisplayName("Deve retornar resposta ou erro 504")
+        void shouldReturnResponseOrGatewayTimeout() {
+            for (int i = 0; i < 20; i++) {
+                var outcome = callmeService.pingWithRandomError()
+                        .onErrorResume(ResponseStatusException.class,
+                                ex -> Mono.just(String.valueOf(ex.getStatusCode().value())));
+
+                StepVerifier.create(outcome)
+                        .assertNext(result -> assertThat(result)
+                                .isIn("callme-service(v1)", String.valueOf(HttpStatus.GATEWAY_TIMEOUT.value())))
+                        .verifyComplete();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("pingWithRandomDelay()")
+    class PingWithRandomDelayMethod {
+
+        @Test
+        @DisplayName("Deve responder apos o delay sem bloquear thread")
+        void shouldRespondAfterDelay() {
+            StepVerifier.withVirtualTime(() -> callmeService.pingWithRandomDelay())
+                    .expectSubscription()
+                    .thenAwait(Duration.ofMillis(3000))
+                    .expectNext("callme-service(v1)")
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+#!/bin/sh
+# Restores the checkpoint in /crac-files when this container can: a CRaC JDK with CRIU and the
+# SYS_PTRACE plus CHECKPOINT_RESTORE (or SYS_ADMIN) capabilities. Otherwise the jar starts cold,
+# and only a CRaC-capable container is given -XX:CRaCCheckpointTo, so the image still runs on a
+# host without CRIU support. With -Dspring.context.checkpoint=onRefresh in JAVA_OPTS the first
+# start checkpoints into /crac-files and exits.
+set -e
+
+CRAC_FILES=/crac-files
+LAUNCHER=org.springframework.boot.loader.launch.JarLauncher
+
+crac_supported() {
+    java_home=$(dirname "$(dirname "$(readlink -f "$(command -v java)")")")
+    [ -x "$java_home/lib/criu" ] || return 1
+    java -XX:CRaCCheckpointTo="$CRAC_FILES" -version >/dev/null 2>&1 || return 1
+    caps=$(awk '/^CapEff:/ { print $2 }' /proc/self/status)
+    [ $(( (0x$caps >> 19) & 1 )) -eq 1 ] || return 1
+    [ $(( (0x$caps >> 40) & 1 )) -eq 1 ] || [ $(( (0x$caps >> 21) & 1 )) -eq 1 ]
+}
+
+if crac_supported; then
+    if [ -n "$(ls -A "$CRAC_FILES" 2>/dev/null)" ]; then
+        exec java -XX:CRaCRestoreFrom="$CRAC_FILES"
+    fi
+    # shellcheck disable=SC2086
+    exec java -XX:CRaCCheckpointTo="$CRAC_FILES" $JAVA_OPTS "$LAUNCHER"
+fi
+
+if [ -n "$(ls -A "$CRAC_FILES" 2>/dev/null)" ]; then
+    echo "CRaC checkpoint found but this container cannot restore it, starting without it" >&2
+fi
+# shellcheck disable=SC2086
+exec java $JAVA_OPTS "$LAUNCHER"
@@ -1,16 +1,20 @@
 package com.github.renanh.callme.api.resource;
 
 import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/callme")
 @Tag(name = "Callme Service", description = "Backend service with error simulation and JFR monitoring")
@@ -18,13 +22,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class CallmeResource {
 
     private final CallmeService callmeService;
+    private final ServiceProperties serviceProperties;
 
     @GetMapping("/ping")
     @Operation(summary = "Simple ping",
             description = "Returns a simple response with service version")
     @ApiResponse(responseCode = "200", description = "Successful ping")
     public ResponseEntity<String> ping() {
-        return ResponseEntity.ok(callmeService.ping());
+        var maxAge = serviceProperties.getPingCacheMaxAge();
+        var cacheControl = maxAge.isPositive() ? CacheControl.maxAge(maxAge) : CacheControl.empty();
+        return ResponseEntity.ok().cacheControl(cacheControl).body(callmeService.ping());
     }
 
     @GetMapping("/ping-with-random-error")
@@ -45,4 +52,12 @@ public class CallmeResource {
     public ResponseEntity<String> pingWithRandomDelay() {
         return ResponseEntity.ok(callmeService.pingWithRandomDelay());
     }
+
+    @GetMapping("/ping-with-random-delay-async")
+    @Operation(summary = "Ping with random delay (non-blocking)",
+            description = "Random delay between 0-3000ms scheduled on a shared timer, recorded via JFR")
+    @ApiResponse(responseCode = "200", description = "Successful response after delay")
+    public CompletableFuture<ResponseEntity<String>> pingWithRandomDelayAsync() {
+        return callmeService.pingWithRandomDelayAsync().thenApply(ResponseEntity::ok);
+    }
 }
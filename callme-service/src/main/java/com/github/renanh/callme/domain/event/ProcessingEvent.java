@@ -6,7 +6,6 @@ import jdk.jfr.Event;
 import jdk.jfr.Label;
 import jdk.jfr.Name;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 @Name("ProcessingEvent")
@@ -14,20 +13,23 @@ import lombok.Setter;
 @Category("Sample Istio Services")
 @Description("Records processing time for request handling")
 @Getter
-@RequiredArgsConstructor
+@Setter
 public class ProcessingEvent extends Event {
 
+    /** Only assigned when the event is enabled, so requests pay nothing for it while JFR is off. */
     @Label("Event ID")
     @Description("Unique identifier for this processing event")
-    private final String eventId;
+    private String eventId;
+
+    @Label("Endpoint")
+    @Description("Endpoint that handled the request")
+    private String endpoint;
 
-    @Setter
     @Label("Processing Time (ms)")
     @Description("Time taken to process the request in milliseconds")
     private long processingTimeMs;
 
-    @Setter
     @Label("Status")
-    @Description("Processing status (SUCCESS, ERROR, TIMEOUT)")
+    @Description("Processing status (SUCCESS, ERROR, INTERRUPTED, CANCELLED, TIMEOUT)")
     private String status;
 }
@@ -2,84 +2,190 @@ package com.github.renanh.callme.domain.service;
 
 import com.github.renanh.callme.domain.event.ProcessingEvent;
 import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import com.github.renanh.callme.infrastructure.deadline.Deadline;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @Getter
 public class CallmeService {
 
-    private static final SecureRandom random = new SecureRandom();
-
     private final ServiceProperties serviceProperties;
+    private final ScheduledExecutorService delayScheduler;
     private final String instanceId;
+    @Getter(AccessLevel.NONE)
+    private final FaultInjector faultInjector;
+
+    // The version is fixed at startup, so the response and log context are built once
+    @Getter(AccessLevel.NONE)
+    private final String response;
+    @Getter(AccessLevel.NONE)
+    private final String logContext;
+    @Getter(AccessLevel.NONE)
+    private final String faultMessage;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong eventSequence = new AtomicLong();
 
-    public CallmeService(ServiceProperties serviceProperties) {
+    public CallmeService(ServiceProperties serviceProperties, ScheduledExecutorService delayScheduler,
+                         FaultInjector faultInjector) {
         this.serviceProperties = serviceProperties;
+        this.delayScheduler = delayScheduler;
+        this.faultInjector = faultInjector;
         this.instanceId = UUID.randomUUID().toString().substring(0, 8);
+        this.response = "callme-service(" + serviceProperties.getVersion() + ")";
+        this.logContext = "version=" + serviceProperties.getVersion() + ", instanceId=" + instanceId;
+        this.faultMessage = "Simulated fault from " + response + ", instanceId=" + instanceId;
     }
 
     public String ping() {
-        log.info("Received ping request, version={}, instanceId={}", getVersion(), instanceId);
-        return formatResponse();
+        var processingEvent = newProcessingEvent("ping");
+        processingEvent.begin();
+        log.debug("Received ping request, {}", logContext);
+        processingEvent.setStatus("SUCCESS");
+        commit(processingEvent);
+        return response;
     }
 
     public String pingWithRandomError() {
-        log.info("Received ping-with-random-error request, version={}, instanceId={}", getVersion(), instanceId);
+        var processingEvent = newProcessingEvent(FaultInjector.PING_WITH_RANDOM_ERROR);
+        processingEvent.begin();
+        log.debug("Received ping-with-random-error request, {}", logContext);
 
-        if (random.nextBoolean()) {
-            log.warn("Simulating gateway timeout error, instanceId={}", instanceId);
-            throw new ResponseStatusException(
-                    HttpStatus.GATEWAY_TIMEOUT,
-                    String.format("Simulated timeout from callme-service(%s), instanceId=%s", getVersion(), instanceId)
-            );
+        var profile = faultInjector.profile(FaultInjector.PING_WITH_RANDOM_ERROR);
+        long delayMs = faultInjector.delayMillis(profile);
+        long waitMs = boundedDelay(delayMs, Deadline.current());
+        try {
+            if (waitMs > 0) {
+                Thread.sleep(waitMs);
+            }
+            processingEvent.setProcessingTimeMs(waitMs);
+            if (waitMs < delayMs) {
+                throw deadlineExceeded(processingEvent);
+            }
+            if (faultInjector.shouldFail(profile)) {
+                log.debug("Simulating {} error, instanceId={}", profile.errorStatus(), instanceId);
+                processingEvent.setStatus("ERROR");
+                throw new ResponseStatusException(profile.errorStatus(), faultMessage);
+            }
+            processingEvent.setStatus("SUCCESS");
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            processingEvent.setStatus("INTERRUPTED");
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Processing was interrupted");
+        } finally {
+            commit(processingEvent);
         }
-
-        return formatResponse();
     }
 
     public String pingWithRandomDelay() {
-        String eventId = UUID.randomUUID().toString();
-        var processingEvent = new ProcessingEvent(eventId);
+        var processingEvent = newProcessingEvent(FaultInjector.PING_WITH_RANDOM_DELAY);
         processingEvent.begin();
 
-        int delayMs = random.nextInt(3001); // 0-3000ms
-        log.info("Received ping-with-random-delay request, version={}, instanceId={}, delayMs={}",
-                getVersion(), instanceId, delayMs);
+        var profile = faultInjector.profile(FaultInjector.PING_WITH_RANDOM_DELAY);
+        long delayMs = faultInjector.delayMillis(profile);
+        boolean fail = faultInjector.shouldFail(profile);
+        if (log.isDebugEnabled()) {
+            log.debug("Received ping-with-random-delay request, {}, delayMs={}", logContext, delayMs);
+        }
 
+        long waitMs = boundedDelay(delayMs, Deadline.current());
         try {
-            Thread.sleep(delayMs);
-            processingEvent.setProcessingTimeMs(delayMs);
+            Thread.sleep(waitMs);
+            processingEvent.setProcessingTimeMs(waitMs);
+            if (waitMs < delayMs) {
+                throw deadlineExceeded(processingEvent);
+            }
+            if (fail) {
+                processingEvent.setStatus("ERROR");
+                throw new ResponseStatusException(profile.errorStatus(), faultMessage);
+            }
             processingEvent.setStatus("SUCCESS");
-            return formatResponse();
+            return response;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            processingEvent.setProcessingTimeMs(delayMs);
+            processingEvent.setProcessingTimeMs(waitMs);
             processingEvent.setStatus("INTERRUPTED");
             throw new ResponseStatusException(
                     HttpStatus.INTERNAL_SERVER_ERROR,
                     "Processing was interrupted"
             );
         } finally {
-            processingEvent.end();
-            if (processingEvent.shouldCommit()) {
-                processingEvent.commit();
-            }
+            commit(processingEvent);
         }
     }
 
+    public CompletableFuture<String> pingWithRandomDelayAsync() {
+        var processingEvent = newProcessingEvent("ping-with-random-delay-async");
+        processingEvent.begin();
+
+        var profile = faultInjector.profile(FaultInjector.PING_WITH_RANDOM_DELAY);
+        long delayMs = faultInjector.delayMillis(profile);
+        boolean fail = faultInjector.shouldFail(profile);
+        if (log.isDebugEnabled()) {
+            log.debug("Received ping-with-random-delay-async request, {}, delayMs={}", logContext, delayMs);
+        }
+
+        long waitMs = boundedDelay(delayMs, Deadline.current());
+        var future = new CompletableFuture<String>();
+        delayScheduler.schedule(() -> {
+            processingEvent.setProcessingTimeMs(waitMs);
+            if (waitMs < delayMs) {
+                var timeout = deadlineExceeded(processingEvent);
+                commit(processingEvent);
+                future.completeExceptionally(timeout);
+                return;
+            }
+            processingEvent.setStatus(fail ? "ERROR" : "SUCCESS");
+            commit(processingEvent);
+            if (fail) {
+                future.completeExceptionally(new ResponseStatusException(profile.errorStatus(), faultMessage));
+            } else {
+                future.complete(response);
+            }
+        }, waitMs, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
     public String getVersion() {
         return serviceProperties.getVersion();
     }
 
-    private String formatResponse() {
-        return String.format("callme-service(%s)", getVersion());
+    /** The simulated delay, cut short at the deadline: past it nobody is waiting for the response. */
+    private static long boundedDelay(long delayMs, Deadline deadline) {
+        return deadline != null ? Math.min(delayMs, deadline.remainingMillis()) : delayMs;
+    }
+
+    private ResponseStatusException deadlineExceeded(ProcessingEvent processingEvent) {
+        log.debug("Deadline exceeded, dropping response, instanceId={}", instanceId);
+        processingEvent.setStatus("TIMEOUT");
+        return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Deadline exceeded");
+    }
+
+    private ProcessingEvent newProcessingEvent(String endpoint) {
+        var processingEvent = new ProcessingEvent();
+        if (processingEvent.isEnabled()) {
+            processingEvent.setEndpoint(endpoint);
+            processingEvent.setEventId(instanceId + "-" + eventSequence.incrementAndGet());
+        }
+        return processingEvent;
+    }
+
+    private void commit(ProcessingEvent processingEvent) {
+        processingEvent.end();
+        if (processingEvent.shouldCommit()) {
+            processingEvent.commit();
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.github.renanh.callme.domain.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random decisions behind the simulated errors and delays.
+ * <p>
+ * Unseeded, draws come from {@link ThreadLocalRandom}, so request threads share no state. Seeded, the
+ * n-th draw is a SplitMix64 mix of the seed and n: the same sequence of requests replays the same
+ * errors and delays regardless of which thread serves each one.
+ */
+public final class FaultGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final AtomicLong sequence;
+
+    private FaultGenerator(long seed, AtomicLong sequence) {
+        this.seed = seed;
+        this.sequence = sequence;
+    }
+
+    public static FaultGenerator unseeded() {
+        return new FaultGenerator(0, null);
+    }
+
+    public static FaultGenerator seeded(long seed) {
+        return new FaultGenerator(seed, new AtomicLong());
+    }
+
+    public boolean isSeeded() {
+        return sequence != null;
+    }
+
+    public boolean nextBoolean() {
+        if (sequence == null) {
+            return ThreadLocalRandom.current().nextBoolean();
+        }
+        return nextSeededLong() < 0;
+    }
+
+    /** Uniform value in {@code [0, bound)}. */
+    public int nextInt(int bound) {
+        if (sequence == null) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+        return (int) (((nextSeededLong() >>> 32) * bound) >>> 32);
+    }
+
+    /** Uniform value in {@code [0, 1)}. */
+    public double nextDouble() {
+        if (sequence == null) {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+        return (nextSeededLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /** Standard normal value. */
+    public double nextGaussian() {
+        if (sequence == null) {
+            return ThreadLocalRandom.current().nextGaussian();
+        }
+        // Box-Muller; 1 - u keeps the logarithm argument in (0, 1]
+        double radius = Math.sqrt(-2 * Math.log(1 - nextDouble()));
+        return radius * Math.cos(2 * Math.PI * nextDouble());
+    }
+
+    private long nextSeededLong() {
+        long z = seed + sequence.incrementAndGet() * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.renanh.callme.domain.service;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fault profiles per endpoint, replaceable at runtime. Each request reads its profile once, so a
+ * concurrent update applies from the next request on.
+ */
+public class FaultInjector {
+
+    public static final String PING_WITH_RANDOM_ERROR = "ping-with-random-error";
+    public static final String PING_WITH_RANDOM_DELAY = "ping-with-random-delay";
+
+    /** Endpoints that consult their profile; ping stays fault-free so it can be cached. */
+    public static final Set<String> ENDPOINTS = Set.of(PING_WITH_RANDOM_ERROR, PING_WITH_RANDOM_DELAY);
+
+    private final FaultGenerator random;
+    private final Map<String, FaultProfile> configured;
+    private final Map<String, FaultProfile> profiles;
+
+    public FaultInjector(FaultGenerator random, Map<String, FaultProfile> configured) {
+        configured.keySet().forEach(FaultInjector::validateEndpoint);
+        this.random = random;
+        this.configured = Map.copyOf(configured);
+        this.profiles = new ConcurrentHashMap<>(configured);
+    }
+
+    public FaultProfile profile(String endpoint) {
+        return profiles.getOrDefault(endpoint, FaultProfile.NONE);
+    }
+
+    public Map<String, FaultProfile> profiles() {
+        var snapshot = new TreeMap<String, FaultProfile>();
+        ENDPOINTS.forEach(endpoint -> snapshot.put(endpoint, profile(endpoint)));
+        return snapshot;
+    }
+
+    public void update(String endpoint, FaultProfile profile) {
+        validateEndpoint(endpoint);
+        profiles.put(endpoint, profile);
+    }
+
+    /** Restores the profile bound from configuration at startup. */
+    public void reset(String endpoint) {
+        validateEndpoint(endpoint);
+        profiles.put(endpoint, configured.getOrDefault(endpoint, FaultProfile.NONE));
+    }
+
+    public long delayMillis(FaultProfile profile) {
+        return profile.latency().sampleMillis(random);
+    }
+
+    public boolean shouldFail(FaultProfile profile) {
+        double errorRate = profile.errorRate();
+        return errorRate > 0 && (errorRate >= 1 || random.nextDouble() < errorRate);
+    }
+
+    private static void validateEndpoint(String endpoint) {
+        Validate.isTrue(ENDPOINTS.contains(endpoint), "Unknown endpoint '%s', expected one of %s", endpoint, ENDPOINTS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.renanh.callme.domain.service;
+
+public enum LatencyDistribution {
+
+    /** No added latency. */
+    NONE,
+
+    /** Uniform between min and max. */
+    UNIFORM,
+
+    /** Lognormal fitted to p50 and p99. */
+    LOGNORMAL,
+
+    /** Pareto fitted to p50 and p99; heavier tail than lognormal for the same percentiles. */
+    PARETO,
+
+    /** Lognormal fast mode (p50, p99) mixed with a slow mode (slowP50, slowP99) hit by slowFraction of requests. */
+    BIMODAL
+}
@@ -0,0 +1,33 @@
+package com.github.renanh.callme.infrastructure.config;
+
+import com.github.renanh.callme.infrastructure.limiter.AimdLimit;
+import com.github.renanh.callme.infrastructure.limiter.ConcurrencyLimitFilter;
+import com.github.renanh.callme.infrastructure.limiter.ConcurrencyLimiter;
+import com.github.renanh.callme.infrastructure.limiter.GradientLimit;
+import com.github.renanh.callme.infrastructure.limiter.Limit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ServiceProperties serviceProperties,
+                                                                                 MeterRegistry meterRegistry) {
+        var config = serviceProperties.getLimiter();
+        Limit limit = switch (config.getAlgorithm()) {
+            case AIMD -> new AimdLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                    config.getBackoffRatio(), config.getTimeout());
+            case GRADIENT -> new GradientLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                    config.getRttTolerance(), config.getSmoothing(), config.getLongWindow());
+        };
+        var filter = new ConcurrencyLimitFilter(new ConcurrencyLimiter(limit, meterRegistry), config);
+        var registration = new FilterRegistrationBean<>(filter);
+        // Ahead of the hop timing filter, so a shed request costs as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
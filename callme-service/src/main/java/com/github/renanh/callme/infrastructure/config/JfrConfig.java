@@ -0,0 +1,15 @@
+package com.github.renanh.callme.infrastructure.config;
+
+import com.github.renanh.callme.infrastructure.observability.JfrMetricsStreamer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public JfrMetricsStreamer jfrMetricsStreamer(MeterRegistry meterRegistry, ServiceProperties serviceProperties) {
+        return new JfrMetricsStreamer(meterRegistry, serviceProperties.getJfr());
+    }
+}
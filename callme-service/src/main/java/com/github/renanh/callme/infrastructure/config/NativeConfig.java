@@ -0,0 +1,28 @@
+package com.github.renanh.callme.infrastructure.config;
+
+import com.github.renanh.callme.domain.event.ProcessingEvent;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reachability metadata for the native image beyond what Spring AOT infers from the bean definitions.
+ * The {@code @ConfigurationProperties} classes are left to Spring Boot, which registers them with
+ * their nested types.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.ServiceRuntimeHints.class)
+public class NativeConfig {
+
+    public static class ServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JFR reads the event's fields reflectively to build its event type
+            hints.reflection().registerType(ProcessingEvent.class,
+                    MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
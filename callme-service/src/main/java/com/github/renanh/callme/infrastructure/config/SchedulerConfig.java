@@ -0,0 +1,23 @@
+package com.github.renanh.callme.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * Single timer thread shared by every asynchronous delay simulation. Pending delays are
+     * queued entries, not blocked threads, so concurrency is bounded by heap instead of pool size.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService delayScheduler() {
+        var scheduler = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("delay-timer-", 0).daemon().factory());
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -1,10 +1,20 @@
 package com.github.renanh.callme.infrastructure.config;
 
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.domain.service.FaultProfile;
+import com.github.renanh.callme.domain.service.LatencyDistribution;
+import com.github.renanh.callme.domain.service.LatencyProfile;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "service")
 @Getter
@@ -12,4 +22,182 @@ import org.springframework.stereotype.Component;
 public class ServiceProperties {
 
     private String version = "v1";
+
+    /** Cache-Control max-age advertised on /ping; zero sends no header. */
+    private Duration pingCacheMaxAge = Duration.ZERO;
+
+    private final Fault fault = new Fault();
+    private final Jfr jfr = new Jfr();
+    private final Hop hop = new Hop();
+    private final RequestLog requestLog = new RequestLog();
+    private final Limiter limiter = new Limiter();
+    private final Deadline deadline = new Deadline();
+
+    @Getter
+    @Setter
+    public static class Fault {
+
+        /** Seed for reproducible error and delay sequences; unset draws from per-thread generators. */
+        private Long seed;
+
+        /**
+         * Profile per endpoint (ping-with-random-error, ping-with-random-delay). Overriding an endpoint
+         * replaces its whole profile, so unset fields fall back to the {@link Profile} defaults.
+         */
+        private Map<String, Profile> profiles = defaultProfiles();
+
+        public Map<String, FaultProfile> toFaultProfiles() {
+            var faultProfiles = new LinkedHashMap<String, FaultProfile>();
+            profiles.forEach((endpoint, profile) -> faultProfiles.put(endpoint, profile.toFaultProfile()));
+            return faultProfiles;
+        }
+
+        private static Map<String, Profile> defaultProfiles() {
+            var randomError = new Profile();
+            randomError.setErrorRate(0.5);
+            var randomDelay = new Profile();
+            randomDelay.getLatency().setDistribution(LatencyDistribution.UNIFORM);
+
+            var defaults = new LinkedHashMap<String, Profile>();
+            defaults.put(FaultInjector.PING_WITH_RANDOM_ERROR, randomError);
+            defaults.put(FaultInjector.PING_WITH_RANDOM_DELAY, randomDelay);
+            return defaults;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        private double errorRate = 0;
+        private HttpStatus errorStatus = HttpStatus.GATEWAY_TIMEOUT;
+        private final Latency latency = new Latency();
+
+        public FaultProfile toFaultProfile() {
+            return new FaultProfile(errorRate, errorStatus, latency.toLatencyProfile());
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Latency {
+
+        private LatencyDistribution distribution = LatencyDistribution.NONE;
+
+        /** Bounds of every sample; the range itself for UNIFORM. */
+        private Duration min = Duration.ZERO;
+        private Duration max = Duration.ofMillis(3000);
+
+        /** Percentiles the LOGNORMAL and PARETO distributions, and the fast BIMODAL mode, are fitted to. */
+        private Duration p50 = Duration.ofMillis(50);
+        private Duration p99 = Duration.ofMillis(500);
+
+        /** Share of requests hitting the slow BIMODAL mode, and its percentiles. */
+        private double slowFraction = 0.05;
+        private Duration slowP50 = Duration.ofMillis(1500);
+        private Duration slowP99 = Duration.ofMillis(2500);
+
+        public LatencyProfile toLatencyProfile() {
+            return new LatencyProfile(distribution, min, max, p50, p99, slowFraction, slowP50, slowP99);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Jfr {
+
+        /** Streams ProcessingEvent, GC, safepoint and thread-park events into Micrometer timers. */
+        private boolean enabled = true;
+
+        /** Shorter thread parks are not recorded. */
+        private Duration threadParkThreshold = Duration.ofMillis(10);
+
+        /** How long streamed events are kept in the JFR disk repository. */
+        private Duration maxAge = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Hop {
+
+        /** Bucket boundaries of the http.server.hop histograms. */
+        private List<Duration> sloBuckets = List.of(Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        /** Also publish Micrometer's generated percentile-histogram buckets on top of the SLO buckets. */
+        private boolean percentileHistogram = false;
+
+        /** Reports the phases in a Server-Timing response header, along with those relayed from downstream. */
+        private boolean serverTiming = true;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestLog {
+
+        /** Logs one line per completed request, subject to sampling. */
+        private boolean enabled = true;
+
+        /** Share of requests logged per endpoint, between 0 and 1. */
+        private double sampleRate = 0.01;
+
+        /** Sample rate overrides by endpoint pattern, e.g. /callme/ping. */
+        private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+        /** Logs every 5xx and every request slower than slow-threshold regardless of the sample rate. */
+        private boolean alwaysLogErrorsAndSlow = true;
+
+        private Duration slowThreshold = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        public enum Algorithm {
+            AIMD, GRADIENT
+        }
+
+        /** Sheds requests above an adaptive concurrency limit with 503 and Retry-After. */
+        private boolean enabled = true;
+
+        private Algorithm algorithm = Algorithm.GRADIENT;
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 200;
+
+        /** Sent as Retry-After on rejected requests, rounded down to whole seconds (at least 1). */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /** AIMD: factor applied to the limit on a drop. */
+        private double backoffRatio = 0.9;
+
+        /** AIMD: slower requests count as drops; below the callers' timeout so the limit reacts first. */
+        private Duration timeout = Duration.ofSeconds(4);
+
+        /** GRADIENT: how much the latest RTT may exceed the long-term average before the limit shrinks. */
+        private double rttTolerance = 2.0;
+
+        /** GRADIENT: weight of each new estimate in the limit. */
+        private double smoothing = 0.2;
+
+        /** GRADIENT: samples in the long-term RTT average. */
+        private int longWindow = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class Deadline {
+
+        /** Honours the X-Deadline-Ms header and stops work once the caller has given up. */
+        private boolean enabled = true;
+
+        /** Budget of requests that arrive without the header; unset leaves them unbounded. */
+        private Duration defaultBudget;
+    }
 }
@@ -0,0 +1,68 @@
+package com.github.renanh.callme.infrastructure.deadline;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Point in time after which nobody upstream is waiting for the response. Travels between hops as
+ * the remaining budget in {@link #HEADER}, so clocks of different hosts never need to agree.
+ */
+public final class Deadline {
+
+    /** Remaining budget in milliseconds, as seen by the sender when the request left. */
+    public static final String HEADER = "X-Deadline-Ms";
+
+    public static final String ATTRIBUTE = Deadline.class.getName();
+
+    /** Longest budget honoured; far past any request, and far from overflowing {@link System#nanoTime()}. */
+    static final Duration MAX_BUDGET = Duration.ofDays(1);
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /** Budgets are clamped to {@code [0, MAX_BUDGET]}, so any {@link Duration} yields a valid deadline. */
+    public static Deadline after(Duration budget) {
+        Duration clamped = budget.isNegative() ? Duration.ZERO
+                : budget.compareTo(MAX_BUDGET) > 0 ? MAX_BUDGET : budget;
+        return new Deadline(System.nanoTime() + clamped.toNanos());
+    }
+
+    /**
+     * Deadline carried by a {@link #HEADER} value, or null when the value is absent, malformed or
+     * outside {@code [0, MAX_BUDGET]}; a peer cannot pick a deadline this hop would not honour.
+     */
+    public static Deadline fromHeader(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            if (millis < 0 || millis > MAX_BUDGET.toMillis()) {
+                return null;
+            }
+            return after(Duration.ofMillis(millis));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /** Deadline of the request bound to the current thread, or null when it has none. */
+    public static Deadline current() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? (Deadline) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    /** Milliseconds left, never negative. */
+    public long remainingMillis() {
+        return Math.max(0, (expiresAtNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.renanh.callme.infrastructure.deadline;
+
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the request's {@link Deadline}, taken from {@link Deadline#HEADER} or the configured default
+ * budget. A request whose budget is already spent is answered with 504 without being handled.
+ */
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final ServiceProperties.Deadline config;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var deadline = Deadline.fromHeader(request.getHeader(Deadline.HEADER));
+        if (deadline == null && config.getDefaultBudget() != null) {
+            deadline = Deadline.after(config.getDefaultBudget());
+        }
+        if (deadline != null) {
+            if (deadline.isExpired()) {
+                response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+                return;
+            }
+            request.setAttribute(Deadline.ATTRIBUTE, deadline);
+        }
+        chain.doFilter(request, response);
+    }
+}
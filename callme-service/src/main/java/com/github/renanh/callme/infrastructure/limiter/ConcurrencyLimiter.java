@@ -0,0 +1,56 @@
+package com.github.renanh.callme.infrastructure.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests while fewer than {@link Limit#limit()} are in flight and feeds each completed
+ * request back into the limit. Exposes {@code http.server.limiter.*} meters.
+ */
+public class ConcurrencyLimiter {
+
+    private final Limit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter accepted;
+    private final Counter rejected;
+
+    public ConcurrencyLimiter(Limit limit, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        Gauge.builder("http.server.limiter.limit", limit, Limit::limit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.server.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("Requests admitted and not yet completed")
+                .register(meterRegistry);
+        this.accepted = requests(meterRegistry, "accepted");
+        this.rejected = requests(meterRegistry, "rejected");
+    }
+
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.limit()) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        limit.onSample(rttNanos, inFlight.getAndDecrement(), dropped);
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("http.server.limiter.requests")
+                .description("Requests by concurrency limiter decision")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.renanh.callme.infrastructure.limiter;
+
+/**
+ * Concurrency limit that adapts to the latency of completed requests.
+ */
+public interface Limit {
+
+    int limit();
+
+    /**
+     * @param rttNanos time the request took
+     * @param inFlight requests in flight when it completed, itself included
+     * @param dropped  whether it failed in a way that signals overload
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
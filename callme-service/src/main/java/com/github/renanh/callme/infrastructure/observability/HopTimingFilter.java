@@ -0,0 +1,73 @@
+package com.github.renanh.callme.infrastructure.observability;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Binds a {@link HopTiming} to each request and records it into {@link HopMetrics} and the
+ * {@link RequestLog} once the response is complete, including requests that finish asynchronously.
+ */
+@RequiredArgsConstructor
+public class HopTimingFilter extends OncePerRequestFilter {
+
+    private final HopMetrics hopMetrics;
+    private final RequestLog requestLog;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        long queueNanos = HopTiming.queueNanos(request.getHeader(HopTiming.REQUEST_START_HEADER));
+        var timing = new HopTiming(queueNanos);
+        request.setAttribute(HopTiming.ATTRIBUTE, timing);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response, start, timing, queueNanos);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, response, start, timing, queueNanos);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start, HopTiming timing,
+                        long queueNanos) {
+        long totalNanos = System.nanoTime() - start;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        hopMetrics.record(uri, totalNanos, timing, queueNanos);
+        requestLog.completed(request.getMethod(), uri, response.getStatus(), totalNanos);
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.renanh.callme.infrastructure.observability;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * The {@code Server-Timing} response header through which each hop reports its phases, e.g.
+ * {@code callme-service.self;dur=40.6, callme-service.queue;dur=0.3}. Upstream hops relay it after
+ * their own entries; the names match the {@code phase} tag of {@code http.server.hop}.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private ServerTiming() {
+    }
+
+    /** Header value for the request behind {@code timing}, as seen now. */
+    public static String of(String application, HopTiming timing) {
+        long totalNanos = System.nanoTime() - timing.startNanos();
+        var value = new StringJoiner(", ");
+        value.add(entry(application, "self", totalNanos - timing.downstreamNanos()));
+        if (timing.queueNanos() >= 0) {
+            value.add(entry(application, "queue", timing.queueNanos()));
+        }
+        return value.toString();
+    }
+
+    private static String entry(String application, String phase, long nanos) {
+        return String.format(Locale.ROOT, "%s.%s;dur=%.3f", application, phase, Math.max(0, nanos) / 1e6);
+    }
+}
@@ -1,7 +1,11 @@
 package com.github.renanh.callme;
 
 import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
 import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,6 +14,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -21,6 +35,18 @@ class CallmeResourceTests {
     @Mock
     private ServiceProperties serviceProperties;
 
+    private final ScheduledExecutorService delayScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final FaultInjector faultInjector = defaultFaults(FaultGenerator.unseeded());
+
+    @AfterEach
+    void tearDown() {
+        delayScheduler.shutdownNow();
+    }
+
+    private static FaultInjector defaultFaults(FaultGenerator faultGenerator) {
+        return new FaultInjector(faultGenerator, new ServiceProperties().getFault().toFaultProfiles());
+    }
+
     @Nested
     @DisplayName("ping()")
     class PingMethod {
@@ -29,7 +55,7 @@ class CallmeResourceTests {
         @DisplayName("Deve retornar resposta formatada com versao do servico")
         void shouldReturnFormattedResponse() {
             when(serviceProperties.getVersion()).thenReturn("v1");
-            CallmeService callmeService = new CallmeService(serviceProperties);
+            CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler, faultInjector);
 
             String result = callmeService.ping();
 
@@ -37,6 +63,41 @@ class CallmeResourceTests {
         }
     }
 
+    @Nested
+    @DisplayName("pingWithRandomError() com seed")
+    class PingWithRandomErrorSeeded {
+
+        @Test
+        @DisplayName("Deve repetir a mesma sequencia de erros para a mesma seed")
+        void shouldReplaySameErrorSequenceForSameSeed() {
+            when(serviceProperties.getVersion()).thenReturn("v1");
+
+            List<Boolean> first = errorSequence(new CallmeService(serviceProperties, delayScheduler,
+                    defaultFaults(FaultGenerator.seeded(42))));
+            List<Boolean> second = errorSequence(new CallmeService(serviceProperties, delayScheduler,
+                    defaultFaults(FaultGenerator.seeded(42))));
+            List<Boolean> other = errorSequence(new CallmeService(serviceProperties, delayScheduler,
+                    defaultFaults(FaultGenerator.seeded(7))));
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first).isNotEqualTo(other);
+            assertThat(first).contains(true, false);
+        }
+
+        private List<Boolean> errorSequence(CallmeService callmeService) {
+            List<Boolean> failures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                try {
+                    callmeService.pingWithRandomError();
+                    failures.add(false);
+                } catch (ResponseStatusException ex) {
+                    failures.add(true);
+                }
+            }
+            return failures;
+        }
+    }
+
     @Nested
     @DisplayName("pingWithRandomDelay()")
     class PingWithRandomDelayMethod {
@@ -45,7 +106,7 @@ class CallmeResourceTests {
         @DisplayName("Deve retornar resposta apos delay aleatorio")
         void shouldReturnResponseAfterDelay() {
             when(serviceProperties.getVersion()).thenReturn("v1");
-            CallmeService callmeService = new CallmeService(serviceProperties);
+            CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler, faultInjector);
 
             String result = callmeService.pingWithRandomDelay();
 
@@ -53,6 +114,63 @@ class CallmeResourceTests {
         }
     }
 
+    @Nested
+    @DisplayName("pingWithRandomDelayAsync()")
+    class PingWithRandomDelayAsyncMethod {
+
+        @Test
+        @DisplayName("Deve completar resposta apos delay sem bloquear a thread chamadora")
+        void shouldCompleteResponseAfterDelay() throws Exception {
+            when(serviceProperties.getVersion()).thenReturn("v1");
+            CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler, faultInjector);
+
+            long start = System.nanoTime();
+            var result = callmeService.pingWithRandomDelayAsync();
+            long returnedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(returnedAfterMs).isLessThan(500);
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("callme-service(v1)");
+        }
+    }
+
+    @Nested
+    @DisplayName("pingWithRandomDelay() em virtual threads")
+    class PingWithRandomDelayOnVirtualThreads {
+
+        private static final int CONCURRENT_REQUESTS = 2_000;
+
+        @Test
+        @DisplayName("Deve atender milhares de requisicoes concorrentes sem pinning de carrier thread")
+        void shouldHandleConcurrentRequestsWithoutPinning() throws Exception {
+            CallmeService callmeService = new CallmeService(new ServiceProperties(), delayScheduler, faultInjector);
+            AtomicInteger pinnedEvents = new AtomicInteger();
+
+            try (var pinningStream = new RecordingStream()) {
+                pinningStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+                pinningStream.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+                pinningStream.startAsync();
+
+                long start = System.nanoTime();
+                List<Future<String>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+                try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                        results.add(executor.submit(callmeService::pingWithRandomDelay));
+                    }
+                }
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+                for (Future<String> result : results) {
+                    assertThat(result.get()).isEqualTo("callme-service(v1)");
+                }
+                // Sequential execution would take ~50 minutes; sleeping must unmount the virtual threads
+                assertThat(elapsed).isLessThan(Duration.ofSeconds(15));
+                pinningStream.stop();
+            }
+
+            assertThat(pinnedEvents).hasValue(0);
+        }
+    }
+
     @Nested
     @DisplayName("getVersion()")
     class GetVersionMethod {
@@ -61,7 +179,7 @@ class CallmeResourceTests {
         @DisplayName("Deve retornar versao configurada")
         void shouldReturnConfiguredVersion() {
             when(serviceProperties.getVersion()).thenReturn("v1");
-            CallmeService callmeService = new CallmeService(serviceProperties);
+            CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler, faultInjector);
 
             String version = callmeService.getVersion();
 
@@ -77,7 +195,7 @@ class CallmeResourceTests {
         @Test
         @DisplayName("Deve retornar ID de instancia unico")
         void shouldReturnUniqueInstanceId() {
-            CallmeService callmeService = new CallmeService(serviceProperties);
+            CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler, faultInjector);
 
             String instanceId = callmeService.getInstanceId();
 
@@ -0,0 +1,136 @@
+package com.github.renanh.callme;
+
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import com.github.renanh.callme.infrastructure.limiter.AimdLimit;
+import com.github.renanh.callme.infrastructure.limiter.ConcurrencyLimitFilter;
+import com.github.renanh.callme.infrastructure.limiter.ConcurrencyLimiter;
+import com.github.renanh.callme.infrastructure.limiter.GradientLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Concurrency Limiter")
+class ConcurrencyLimiterTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("AIMD")
+    class Aimd {
+
+        private final AimdLimit limit = new AimdLimit(10, 2, 20, 0.5, Duration.ofMillis(100));
+
+        @Test
+        @DisplayName("Deve crescer apenas quando o limite está em uso")
+        void shouldGrowOnlyWhenSaturated() {
+            limit.onSample(FAST, 2, false);
+            assertThat(limit.limit()).isEqualTo(10);
+
+            limit.onSample(FAST, 5, false);
+            assertThat(limit.limit()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir em drops e requisições acima do timeout")
+        void shouldBackOffOnDropsAndTimeouts() {
+            limit.onSample(FAST, 10, true);
+            assertThat(limit.limit()).isEqualTo(5);
+
+            limit.onSample(SLOW, 5, false);
+            limit.onSample(SLOW, 5, false);
+            assertThat(limit.limit()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Gradient")
+    class Gradient {
+
+        private final GradientLimit limit = new GradientLimit(20, 2, 200, 1.5, 0.2, 100);
+
+        @Test
+        @DisplayName("Deve crescer enquanto a latência fica estável")
+        void shouldGrowWithStableLatency() {
+            for (int i = 0; i < 50; i++) {
+                limit.onSample(FAST, limit.limit(), false);
+            }
+
+            assertThat(limit.limit()).isGreaterThan(20);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir quando a latência sobe")
+        void shouldShrinkWhenLatencyRises() {
+            for (int i = 0; i < 50; i++) {
+                limit.onSample(FAST, limit.limit(), false);
+            }
+            int stable = limit.limit();
+
+            for (int i = 0; i < 10; i++) {
+                limit.onSample(SLOW, limit.limit(), false);
+            }
+
+            assertThat(limit.limit()).isLessThan(stable);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar amostras com o limite ocioso")
+        void shouldIgnoreAppLimitedSamples() {
+            for (int i = 0; i < 50; i++) {
+                limit.onSample(SLOW, 1, false);
+            }
+
+            assertThat(limit.limit()).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filtro")
+    class Filter {
+
+        @Test
+        @DisplayName("Deve rejeitar acima do limite com 503 e Retry-After")
+        void shouldRejectAboveLimit() throws Exception {
+            var config = new ServiceProperties.Limiter();
+            config.setRetryAfter(Duration.ofSeconds(2));
+            var limiter = new ConcurrencyLimiter(new AimdLimit(1, 1, 1, 0.9, Duration.ofSeconds(4)), meterRegistry);
+            var filter = new ConcurrencyLimitFilter(limiter, config);
+            assertThat(limiter.tryAcquire()).isTrue();
+
+            var response = new MockHttpServletResponse();
+            var chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/callme/ping"), response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+            assertThat(chain.getRequest()).isNull();
+            assertThat(meterRegistry.get("http.server.limiter.requests").tag("outcome", "rejected").counter().count())
+                    .isOne();
+        }
+
+        @Test
+        @DisplayName("Deve liberar a vaga quando a requisição termina")
+        void shouldReleaseOnCompletion() throws Exception {
+            var limiter = new ConcurrencyLimiter(new AimdLimit(1, 1, 1, 0.9, Duration.ofSeconds(4)), meterRegistry);
+            var filter = new ConcurrencyLimitFilter(limiter, new ServiceProperties.Limiter());
+
+            for (int i = 0; i < 3; i++) {
+                var response = new MockHttpServletResponse();
+                filter.doFilter(new MockHttpServletRequest("GET", "/callme/ping"), response, new MockFilterChain());
+                assertThat(response.getStatus()).isEqualTo(200);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.renanh.callme;
+
+import com.github.renanh.callme.domain.service.CallmeService;
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.domain.service.FaultProfile;
+import com.github.renanh.callme.domain.service.LatencyProfile;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import com.github.renanh.callme.infrastructure.deadline.Deadline;
+import com.github.renanh.callme.infrastructure.deadline.DeadlineFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Deadline")
+class DeadlineTests {
+
+    private final ServiceProperties serviceProperties = new ServiceProperties();
+
+    @Nested
+    @DisplayName("DeadlineFilter")
+    class Filter {
+
+        private final DeadlineFilter filter = new DeadlineFilter(serviceProperties.getDeadline());
+
+        @Test
+        @DisplayName("Deve vincular o prazo recebido no header à requisição")
+        void shouldBindDeadlineFromHeader() throws Exception {
+            var request = new MockHttpServletRequest("GET", "/callme/ping");
+            request.addHeader(Deadline.HEADER, "1500");
+            var chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            var deadline = (Deadline) request.getAttribute(Deadline.ATTRIBUTE);
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(deadline.remainingMillis()).isBetween(1000L, 1500L);
+        }
+
+        @Test
+        @DisplayName("Deve responder 504 sem processar quando o prazo já expirou")
+        void shouldRejectExpiredDeadline() throws Exception {
+            var request = new MockHttpServletRequest("GET", "/callme/ping");
+            request.addHeader(Deadline.HEADER, "0");
+            var response = new MockHttpServletResponse();
+            var chain = new MockFilterChain();
+
+            filter.doFilter(request, response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT.value());
+            assertThat(chain.getRequest()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar header malformado quando não há orçamento padrão")
+        void shouldIgnoreMalformedHeader() throws Exception {
+            var request = new MockHttpServletRequest("GET", "/callme/ping");
+            request.addHeader(Deadline.HEADER, "soon");
+
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(request.getAttribute(Deadline.ATTRIBUTE)).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar header fora do intervalo aceito sem estourar")
+        void shouldIgnoreOutOfRangeHeader() throws Exception {
+            for (String value : new String[] {String.valueOf(Long.MAX_VALUE), "-1", "99999999999"}) {
+                var request = new MockHttpServletRequest("GET", "/callme/ping");
+                request.addHeader(Deadline.HEADER, value);
+                var chain = new MockFilterChain();
+
+                filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+                assertThat(request.getAttribute(Deadline.ATTRIBUTE)).as(value).isNull();
+                assertThat(chain.getRequest()).isNotNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve limitar orçamentos enormes em vez de estourar")
+        void shouldClampHugeBudget() {
+            var deadline = Deadline.after(Duration.ofSeconds(Long.MAX_VALUE));
+
+            assertThat(deadline.isExpired()).isFalse();
+            assertThat(deadline.remainingMillis()).isLessThanOrEqualTo(Duration.ofDays(1).toMillis());
+        }
+    }
+
+    @Nested
+    @DisplayName("CallmeService")
+    class Service {
+
+        private static final Duration DELAY = Duration.ofSeconds(2);
+
+        private final ScheduledExecutorService delayScheduler = Executors.newSingleThreadScheduledExecutor();
+        private final CallmeService callmeService = new CallmeService(serviceProperties, delayScheduler,
+                new FaultInjector(FaultGenerator.unseeded(), Map.of(FaultInjector.PING_WITH_RANDOM_DELAY,
+                        new FaultProfile(0, HttpStatus.GATEWAY_TIMEOUT, LatencyProfile.uniform(DELAY, DELAY)))));
+
+        @AfterEach
+        void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+            delayScheduler.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Deve interromper o atraso e responder 504 quando o prazo expira")
+        void shouldStopWorkAtDeadline() {
+            bindDeadline(Duration.ofMillis(100));
+            long start = System.nanoTime();
+
+            assertThatThrownBy(callmeService::pingWithRandomDelay)
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(DELAY);
+        }
+
+        @Test
+        @DisplayName("Deve completar a variante assíncrona com 504 no prazo")
+        void shouldStopAsyncWorkAtDeadline() {
+            bindDeadline(Duration.ofMillis(100));
+
+            var future = callmeService.pingWithRandomDelayAsync();
+
+            assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ResponseStatusException.class);
+        }
+
+        private void bindDeadline(Duration budget) {
+            var request = new MockHttpServletRequest();
+            request.setAttribute(Deadline.ATTRIBUTE, Deadline.after(budget));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.renanh.callme;
+
+import com.github.renanh.callme.domain.service.FaultGenerator;
+import com.github.renanh.callme.domain.service.FaultInjector;
+import com.github.renanh.callme.domain.service.FaultProfile;
+import com.github.renanh.callme.domain.service.LatencyDistribution;
+import com.github.renanh.callme.domain.service.LatencyProfile;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Fault Injector")
+class FaultInjectorTests {
+
+    private static final int SAMPLES = 100_000;
+
+    private final FaultGenerator random = FaultGenerator.seeded(42);
+
+    @Nested
+    @DisplayName("LatencyProfile.sampleMillis()")
+    class SampleMillisMethod {
+
+        @Test
+        @DisplayName("Deve ajustar a lognormal aos percentis configurados")
+        void shouldFitLognormalToPercentiles() {
+            var latency = fitted(LatencyDistribution.LOGNORMAL);
+
+            long[] samples = sample(latency);
+
+            assertThat(percentile(samples, 0.50)).isCloseTo(50, within(3L));
+            assertThat(percentile(samples, 0.99)).isCloseTo(500, within(30L));
+        }
+
+        @Test
+        @DisplayName("Deve ajustar a Pareto aos percentis configurados")
+        void shouldFitParetoToPercentiles() {
+            var latency = fitted(LatencyDistribution.PARETO);
+
+            long[] samples = sample(latency);
+
+            assertThat(percentile(samples, 0.50)).isCloseTo(50, within(3L));
+            assertThat(percentile(samples, 0.99)).isCloseTo(500, within(30L));
+        }
+
+        @Test
+        @DisplayName("Deve enviar a fracao configurada de requisicoes para o modo lento da bimodal")
+        void shouldSendSlowFractionToSlowMode() {
+            var latency = fitted(LatencyDistribution.BIMODAL);
+
+            long[] samples = sample(latency);
+            long slow = Arrays.stream(samples).filter(millis -> millis >= 1000).count();
+
+            assertThat((double) slow / SAMPLES).isCloseTo(0.05, within(0.005));
+        }
+
+        @Test
+        @DisplayName("Deve limitar as amostras ao intervalo configurado")
+        void shouldClampSamplesToBounds() {
+            var latency = new LatencyProfile(LatencyDistribution.PARETO, Duration.ofMillis(20),
+                    Duration.ofMillis(200), Duration.ofMillis(50), Duration.ofMillis(500),
+                    0, Duration.ZERO, Duration.ZERO);
+
+            long[] samples = sample(latency);
+
+            assertThat(samples[0]).isGreaterThanOrEqualTo(20);
+            assertThat(samples[SAMPLES - 1]).isLessThanOrEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar percentis inconsistentes")
+        void shouldRejectInconsistentPercentiles() {
+            assertThatThrownBy(() -> new LatencyProfile(LatencyDistribution.LOGNORMAL, Duration.ZERO,
+                    Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(50),
+                    0, Duration.ZERO, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("update() / reset()")
+    class UpdateMethod {
+
+        @Test
+        @DisplayName("Deve aplicar o novo perfil e restaurar o configurado no reset")
+        void shouldApplyUpdateAndRestoreConfiguredProfile() {
+            var injector = new FaultInjector(random, new ServiceProperties().getFault().toFaultProfiles());
+            var alwaysFail = new FaultProfile(1.0, HttpStatus.SERVICE_UNAVAILABLE, LatencyProfile.none());
+
+            injector.update(FaultInjector.PING_WITH_RANDOM_ERROR, alwaysFail);
+            var updated = injector.profile(FaultInjector.PING_WITH_RANDOM_ERROR);
+            injector.reset(FaultInjector.PING_WITH_RANDOM_ERROR);
+
+            assertThat(updated).isEqualTo(alwaysFail);
+            assertThat(injector.shouldFail(updated)).isTrue();
+            assertThat(injector.profile(FaultInjector.PING_WITH_RANDOM_ERROR).errorRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar endpoint desconhecido")
+        void shouldRejectUnknownEndpoint() {
+            var injector = new FaultInjector(random, Map.of());
+
+            assertThatThrownBy(() -> injector.update("ping", FaultProfile.NONE))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static LatencyProfile fitted(LatencyDistribution distribution) {
+        var latency = new ServiceProperties.Latency();
+        latency.setDistribution(distribution);
+        latency.setMax(Duration.ofMinutes(1));
+        return latency.toLatencyProfile();
+    }
+
+    private long[] sample(LatencyProfile latency) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+}
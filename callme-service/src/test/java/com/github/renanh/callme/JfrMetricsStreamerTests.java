@@ -0,0 +1,77 @@
+package com.github.renanh.callme;
+
+import com.github.renanh.callme.domain.event.ProcessingEvent;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import com.github.renanh.callme.infrastructure.observability.JfrMetricsStreamer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JFR Metrics Streamer")
+class JfrMetricsStreamerTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceProperties.Jfr jfr = new ServiceProperties.Jfr();
+    private JfrMetricsStreamer streamer;
+
+    @AfterEach
+    void tearDown() {
+        streamer.close();
+    }
+
+    @Nested
+    @DisplayName("start()")
+    class StartMethod {
+
+        @Test
+        @DisplayName("Deve publicar ProcessingEvent como timer por endpoint e status")
+        void shouldPublishProcessingEventAsTimer() throws Exception {
+            streamer = new JfrMetricsStreamer(meterRegistry, jfr);
+            streamer.start();
+
+            var processingEvent = new ProcessingEvent();
+            processingEvent.begin();
+            Thread.sleep(20);
+            processingEvent.end();
+            processingEvent.setEndpoint("ping");
+            processingEvent.setStatus("SUCCESS");
+            processingEvent.commit();
+
+            Timer timer = awaitTimer("jfr.processing", Duration.ofSeconds(10));
+            assertThat(timer.getId().getTag("endpoint")).isEqualTo("ping");
+            assertThat(timer.getId().getTag("status")).isEqualTo("SUCCESS");
+            assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Nao deve registrar timers de eventos quando desabilitado")
+        void shouldNotStreamWhenDisabled() {
+            jfr.setEnabled(false);
+            streamer = new JfrMetricsStreamer(meterRegistry, jfr);
+
+            streamer.start();
+
+            assertThat(meterRegistry.find("jfr.processing").timer()).isNull();
+        }
+    }
+
+    private Timer awaitTimer(String name, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Timer timer = meterRegistry.find(name).timer();
+            if (timer != null && timer.count() > 0) {
+                return timer;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No " + name + " recorded within " + timeout);
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.renanh.callme;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import com.github.renanh.callme.infrastructure.config.ServiceProperties;
+import com.github.renanh.callme.infrastructure.observability.MeteredAsyncAppender;
+import com.github.renanh.callme.infrastructure.observability.RequestLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Request Log")
+class RequestLogTests {
+
+    private static final String PING = "/callme/ping";
+    private static final String DELAY = "/callme/ping-with-random-delay";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceProperties.RequestLog config = new ServiceProperties.RequestLog();
+
+    @Nested
+    @DisplayName("Amostragem")
+    class Sampling {
+
+        @Test
+        @DisplayName("Deve aplicar a taxa de amostragem de cada endpoint")
+        void shouldApplySampleRatePerEndpoint() {
+            config.setSampleRate(0);
+            config.setEndpoints(Map.of(DELAY, 1.0));
+            var requestLog = new RequestLog(meterRegistry, config);
+
+            for (int i = 0; i < 100; i++) {
+                requestLog.completed("GET", PING, 200, millis(1));
+                requestLog.completed("GET", DELAY, 200, millis(1));
+            }
+
+            assertThat(count(PING, "skipped")).isEqualTo(100);
+            assertThat(count(PING, "sampled")).isZero();
+            assertThat(count(DELAY, "sampled")).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Deve sempre registrar erros e requisições lentas")
+        void shouldAlwaysLogErrorsAndSlowRequests() {
+            config.setSampleRate(0);
+            config.setSlowThreshold(Duration.ofMillis(500));
+            var requestLog = new RequestLog(meterRegistry, config);
+
+            var logger = (Logger) LoggerFactory.getLogger(RequestLog.class);
+            var captured = new ListAppender<ILoggingEvent>();
+            captured.start();
+            logger.addAppender(captured);
+            try {
+                requestLog.completed("GET", PING, 504, millis(1));
+                requestLog.completed("GET", PING, 200, millis(800));
+                requestLog.completed("GET", PING, 200, millis(1));
+            } finally {
+                logger.detachAppender(captured);
+            }
+
+            assertThat(count(PING, "forced")).isEqualTo(2);
+            assertThat(count(PING, "skipped")).isOne();
+            // WARN survives the async appender's discarding threshold
+            assertThat(captured.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN, Level.WARN);
+        }
+
+        @Test
+        @DisplayName("Deve amostrar erros quando o modo estiver desligado")
+        void shouldSampleErrorsWhenModeIsOff() {
+            config.setSampleRate(0);
+            config.setAlwaysLogErrorsAndSlow(false);
+            var requestLog = new RequestLog(meterRegistry, config);
+
+            requestLog.completed("GET", PING, 504, millis(5000));
+
+            assertThat(count(PING, "forced")).isZero();
+            assertThat(count(PING, "skipped")).isOne();
+        }
+    }
+
+    @Nested
+    @DisplayName("Appender assíncrono")
+    class Async {
+
+        @Test
+        @DisplayName("Deve contar eventos descartados sem bloquear quem loga")
+        void shouldCountDroppedEventsWithoutBlocking() throws InterruptedException {
+            var loggerContext = new LoggerContext();
+            loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+            var release = new CountDownLatch(1);
+            var blocked = new BlockingAppender(release);
+            blocked.setContext(loggerContext);
+            blocked.start();
+
+            var async = new MeteredAsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(4);
+            async.setDiscardingThreshold(3);
+            async.setNeverBlock(true);
+            async.addAppender(blocked);
+            async.start();
+            try {
+                // The first event is taken by the worker, which then blocks; the rest fill the queue
+                async.doAppend(event(loggerContext, Level.INFO));
+                assertThat(blocked.entered.await(5, TimeUnit.SECONDS)).isTrue();
+                async.doAppend(event(loggerContext, Level.INFO));
+                async.doAppend(event(loggerContext, Level.INFO));
+                async.doAppend(event(loggerContext, Level.INFO));
+                async.doAppend(event(loggerContext, Level.WARN));
+                async.doAppend(event(loggerContext, Level.WARN));
+                async.doAppend(event(loggerContext, Level.WARN));
+
+                // Third INFO finds fewer than 3 free slots, third WARN finds the queue full
+                assertThat(async.getDroppedCount()).isEqualTo(2);
+            } finally {
+                release.countDown();
+                async.stop();
+            }
+        }
+    }
+
+    private static ILoggingEvent event(LoggerContext loggerContext, Level level) {
+        return new LoggingEvent(RequestLogTests.class.getName(), loggerContext.getLogger("test"), level,
+                "message", null, null);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private double count(String uri, String decision) {
+        return meterRegistry.get("logging.requests").tags("uri", uri, "decision", decision).counter().count();
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        BlockingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
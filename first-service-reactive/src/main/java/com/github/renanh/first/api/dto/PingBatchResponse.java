@@ -0,0 +1,27 @@
+package com.github.renanh.first.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record PingBatchResponse(
+        String endpoint,
+        int calls,
+        int concurrency,
+        long deadlineMillis,
+        double elapsedMillis,
+        Map<String, Long> statuses,
+        LatencySummary latency,
+        List<CallResult> results
+) {
+
+    /**
+     * Outcome of a single fan-out call; {@code status} is the HTTP status code, {@code timeout}
+     * when the batch deadline expired first, or {@code error} for I/O failures.
+     */
+    public record CallResult(int index, String status, double latencyMillis) {
+    }
+
+    /** Latency percentiles over the calls that received a response. */
+    public record LatencySummary(double p50, double p90, double p99, double max) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.renanh.first.api.resource;
+
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.domain.service.BatchPingService;
+import com.github.renanh.first.domain.service.FirstService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/first")
+@Tag(name = "First Service", description = "Entry point service that initiates the service call chain")
+@RequiredArgsConstructor
+public class FirstResource {
+
+    private final FirstService firstService;
+    private final BatchPingService batchPingService;
+
+    @GetMapping("/ping")
+    @Operation(summary = "Ping through service chain",
+            description = "Calls caller-service which in turn calls callme-service")
+    public Mono<ResponseEntity<String>> ping() {
+        return firstService.ping().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-with-random-error")
+    @Operation(summary = "Ping with random error simulation",
+            description = "Demonstrates retry and circuit breaker patterns")
+    public Mono<ResponseEntity<String>> pingWithRandomError() {
+        return firstService.pingWithRandomError().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-with-random-delay")
+    @Operation(summary = "Ping with random delay",
+            description = "Demonstrates timeout handling in service mesh")
+    public Mono<ResponseEntity<String>> pingWithRandomDelay() {
+        return firstService.pingWithRandomDelay().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ping-batch")
+    @Operation(summary = "Fan-out ping batch",
+            description = "Calls caller-service n times concurrently and reports per-call latency and the status mix")
+    public Mono<ResponseEntity<PingBatchResponse>> pingBatch(
+            @RequestParam int n,
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer concurrency,
+            @RequestParam(required = false) Long deadlineMs) {
+        return batchPingService.pingBatch(n, endpoint, concurrency, deadlineMs).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.renanh.first.domain.service;
+
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.api.dto.PingBatchResponse.CallResult;
+import com.github.renanh.first.api.dto.PingBatchResponse.LatencySummary;
+import com.github.renanh.first.domain.event.ProcessingEvent;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Fans a single request out into N concurrent calls to caller-service with {@code flatMap}
+ * bounded by the requested concurrency. Calls still pending when the deadline passes are
+ * cancelled and reported as {@code timeout}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchPingService {
+
+    static final String TIMEOUT = "timeout";
+    static final String ERROR = "error";
+
+    private final CallerServiceClient callerServiceClient;
+    private final ServiceProperties serviceProperties;
+
+    public Mono<PingBatchResponse> pingBatch(int calls, String endpoint, Integer concurrency, Long deadlineMillis) {
+        var batch = serviceProperties.getBatch();
+        var target = PingEndpoint.fromPath(endpoint);
+        int parallelism = concurrency != null ? concurrency : batch.getDefaultConcurrency();
+        var deadline = deadlineMillis != null ? Duration.ofMillis(deadlineMillis) : batch.getDefaultDeadline();
+
+        Validate.inclusiveBetween(1, batch.getMaxCalls(), calls,
+                "n must be between 1 and %d", batch.getMaxCalls());
+        Validate.inclusiveBetween(1, batch.getMaxConcurrency(), parallelism,
+                "concurrency must be between 1 and %d", batch.getMaxConcurrency());
+        Validate.isTrue(deadline.isPositive() && deadline.compareTo(batch.getMaxDeadline()) <= 0,
+                "deadline must be between 1ms and %dms", batch.getMaxDeadline().toMillis());
+
+        log.debug("Received ping-batch request, n={}, endpoint={}, concurrency={}, deadline={}",
+                calls, target.path, parallelism, deadline);
+
+        return Mono.defer(() -> {
+            var processingEvent = new ProcessingEvent();
+            processingEvent.begin();
+            long start = System.nanoTime();
+            return Flux.range(0, calls)
+                    .flatMap(index -> call(index, target), parallelism)
+                    .take(deadline)
+                    .collectList()
+                    .map(completed -> {
+                        var results = new CallResult[calls];
+                        completed.forEach(result -> results[result.index()] = result);
+                        for (int i = 0; i < calls; i++) {
+                            if (results[i] == null) {
+                                results[i] = new CallResult(i, TIMEOUT, millisSince(start));
+                            }
+                        }
+                        List<CallResult> ordered = Arrays.asList(results);
+                        return new PingBatchResponse(target.path, calls, parallelism, deadline.toMillis(),
+                                millisSince(start), statuses(ordered), latency(ordered), ordered);
+                    })
+                    .doOnSuccess(response -> processingEvent.setStatus("SUCCESS"))
+                    .doOnError(ex -> processingEvent.setStatus("ERROR"))
+                    .doOnCancel(() -> processingEvent.setStatus("CANCELLED"))
+                    .doFinally(signal -> {
+                        processingEvent.end();
+                        if (processingEvent.shouldCommit()) {
+                            processingEvent.setEndpoint("ping-batch");
+                            processingEvent.commit();
+                        }
+                    });
+        });
+    }
+
+    private Mono<CallResult> call(int index, PingEndpoint target) {
+        return Mono.defer(() -> {
+            long callStart = System.nanoTime();
+            return target.call.apply(callerServiceClient)
+                    .map(body -> new CallResult(index, String.valueOf(HttpStatus.OK.value()), millisSince(callStart)))
+                    .onErrorResume(WebClientResponseException.class, ex -> Mono.just(
+                            new CallResult(index, String.valueOf(ex.getStatusCode().value()), millisSince(callStart))))
+                    .onErrorResume(ex -> Mono.just(new CallResult(index, ERROR, millisSince(callStart))));
+        });
+    }
+
+    private static Map<String, Long> statuses(List<CallResult> results) {
+        var statuses = new TreeMap<String, Long>();
+        results.forEach(result -> statuses.merge(result.status(), 1L, Long::sum));
+        return statuses;
+    }
+
+    private static LatencySummary latency(List<CallResult> results) {
+        double[] latencies = results.stream()
+                .filter(result -> !TIMEOUT.equals(result.status()))
+                .mapToDouble(CallResult::latencyMillis)
+                .sorted()
+                .toArray();
+        if (latencies.length == 0) {
+            return new LatencySummary(0, 0, 0, 0);
+        }
+        return new LatencySummary(percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), latencies[latencies.length - 1]);
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(rank, 0, sorted.length - 1)];
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    enum PingEndpoint {
+
+        PING("ping", CallerServiceClient::ping),
+        RANDOM_ERROR("ping-with-random-error", CallerServiceClient::pingWithRandomError),
+        RANDOM_DELAY("ping-with-random-delay", CallerServiceClient::pingWithRandomDelay);
+
+        private final String path;
+        private final Function<CallerServiceClient, Mono<String>> call;
+
+        PingEndpoint(String path, Function<CallerServiceClient, Mono<String>> call) {
+            this.path = path;
+            this.call = call;
+        }
+
+        static PingEndpoint fromPath(String path) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.path.equals(path))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint: " + path));
+        }
+    }
+}
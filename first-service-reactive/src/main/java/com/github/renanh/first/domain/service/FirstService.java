@@ -0,0 +1,62 @@
+package com.github.renanh.first.domain.service;
+
+import com.github.renanh.first.domain.event.ProcessingEvent;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+public class FirstService {
+
+    private final CallerServiceClient callerServiceClient;
+    private final String version;
+
+    // The version is fixed at startup, so only the downstream part of the response is appended per request
+    private final String responsePrefix;
+
+    public FirstService(CallerServiceClient callerServiceClient, ServiceProperties serviceProperties) {
+        this.callerServiceClient = callerServiceClient;
+        this.version = serviceProperties.getVersion();
+        this.responsePrefix = "first-service(" + version + ") -> ";
+    }
+
+    public Mono<String> ping() {
+        log.debug("Received ping request, version={}", version);
+        return record("ping", callerServiceClient.ping());
+    }
+
+    public Mono<String> pingWithRandomError() {
+        log.debug("Received ping-with-random-error request, version={}", version);
+        return record("ping-with-random-error", callerServiceClient.pingWithRandomError());
+    }
+
+    public Mono<String> pingWithRandomDelay() {
+        log.debug("Received ping-with-random-delay request, version={}", version);
+        return record("ping-with-random-delay", callerServiceClient.pingWithRandomDelay());
+    }
+
+    private Mono<String> record(String endpoint, Mono<String> downstreamCall) {
+        return Mono.defer(() -> {
+            var processingEvent = new ProcessingEvent();
+            processingEvent.begin();
+            return downstreamCall.map(this::formatResponse)
+                    .doOnSuccess(response -> processingEvent.setStatus("SUCCESS"))
+                    .doOnError(ex -> processingEvent.setStatus("ERROR"))
+                    .doOnCancel(() -> processingEvent.setStatus("CANCELLED"))
+                    .doFinally(signal -> {
+                        processingEvent.end();
+                        if (processingEvent.shouldCommit()) {
+                            processingEvent.setEndpoint(endpoint);
+                            processingEvent.commit();
+                        }
+                    });
+        });
+    }
+
+    private String formatResponse(String callerResponse) {
+        return responsePrefix.concat(callerResponse);
+    }
+}
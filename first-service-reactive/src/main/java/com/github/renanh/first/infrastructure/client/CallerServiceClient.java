@@ -0,0 +1,18 @@
+package com.github.renanh.first.infrastructure.client;
+
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
+
+@HttpExchange("/caller")
+public interface CallerServiceClient {
+
+    @GetExchange("/ping")
+    Mono<String> ping();
+
+    @GetExchange("/ping-with-random-error")
+    Mono<String> pingWithRandomError();
+
+    @GetExchange("/ping-with-random-delay")
+    Mono<String> pingWithRandomDelay();
+}
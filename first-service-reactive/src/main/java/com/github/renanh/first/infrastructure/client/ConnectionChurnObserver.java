@@ -0,0 +1,35 @@
+package com.github.renanh.first.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+/**
+ * Counts physical connections opened and closed by a pooled client. A steadily growing
+ * opened count under constant load means the pool is churning instead of reusing sockets.
+ */
+public class ConnectionChurnObserver implements ConnectionObserver {
+
+    private final Counter opened;
+    private final Counter closed;
+
+    public ConnectionChurnObserver(String clientName, MeterRegistry meterRegistry) {
+        this.opened = Counter.builder("http.client.connections.opened")
+                .description("Physical connections established to the downstream service")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        this.closed = Counter.builder("http.client.connections.closed")
+                .description("Physical connections closed to the downstream service")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onStateChange(Connection connection, State newState) {
+        if (newState == State.CONNECTED) {
+            opened.increment();
+            connection.onDispose(closed::increment);
+        }
+    }
+}
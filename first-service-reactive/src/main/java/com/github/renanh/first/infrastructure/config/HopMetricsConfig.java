@@ -0,0 +1,26 @@
+package com.github.renanh.first.infrastructure.config;
+
+import com.github.renanh.first.infrastructure.observability.HopMetrics;
+import com.github.renanh.first.infrastructure.observability.HopTimingWebFilter;
+import com.github.renanh.first.infrastructure.observability.RequestLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class HopMetricsConfig {
+
+    @Bean
+    public HopMetrics hopMetrics(MeterRegistry meterRegistry, ServiceProperties serviceProperties) {
+        return new HopMetrics(meterRegistry, serviceProperties.getHop());
+    }
+
+    // Outermost, so self time covers every other filter as well as the handler
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public HopTimingWebFilter hopTimingWebFilter(HopMetrics hopMetrics, RequestLog requestLog) {
+        return new HopTimingWebFilter(hopMetrics, requestLog);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.renanh.first.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "service")
+@Getter
+@Setter
+public class ServiceProperties {
+
+    private String version = "v1";
+
+    private final Batch batch = new Batch();
+    private final Jfr jfr = new Jfr();
+    private final Hop hop = new Hop();
+    private final RequestLog requestLog = new RequestLog();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        private int maxCalls = 1000;
+        private int maxConcurrency = 256;
+        private int defaultConcurrency = 32;
+        private Duration defaultDeadline = Duration.ofSeconds(10);
+        private Duration maxDeadline = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Jfr {
+
+        /** Streams ProcessingEvent, GC, safepoint and thread-park events into Micrometer timers. */
+        private boolean enabled = true;
+
+        /** Shorter thread parks are not recorded. */
+        private Duration threadParkThreshold = Duration.ofMillis(10);
+
+        /** How long streamed events are kept in the JFR disk repository. */
+        private Duration maxAge = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Hop {
+
+        /** Bucket boundaries of the http.server.hop histograms. */
+        private List<Duration> sloBuckets = List.of(Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        /** Also publish Micrometer's generated percentile-histogram buckets on top of the SLO buckets. */
+        private boolean percentileHistogram = false;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestLog {
+
+        /** Logs one line per completed request, subject to sampling. */
+        private boolean enabled = true;
+
+        /** Share of requests logged per endpoint, between 0 and 1. */
+        private double sampleRate = 0.01;
+
+        /** Sample rate overrides by endpoint pattern, e.g. /first/ping. */
+        private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+        /** Logs every 5xx and every request slower than slow-threshold regardless of the sample rate. */
+        private boolean alwaysLogErrorsAndSlow = true;
+
+        private Duration slowThreshold = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.renanh.first.infrastructure.config;
+
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.client.ConnectionChurnObserver;
+import com.github.renanh.first.infrastructure.observability.HopTimingExchangeFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebClientConfig {
+
+    private final CallerClientProperties callerClientProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources callerLoopResources() {
+        int threads = callerClientProperties.getEventLoop().getThreads();
+        return LoopResources.create("caller-client-io",
+                threads > 0 ? threads : LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider callerConnectionProvider() {
+        var pool = callerClientProperties.getPool();
+        var builder = ConnectionProvider.builder("caller")
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (callerClientProperties.getProtocols().contains(HttpProtocol.H2C)) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        } else {
+            builder.maxConnections(pool.getMaxConnections());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public WebClient callerWebClient(ConnectionProvider callerConnectionProvider,
+                                     LoopResources callerLoopResources,
+                                     MeterRegistry meterRegistry) {
+        var httpClient = HttpClient.create(callerConnectionProvider)
+                .runOn(callerLoopResources)
+                .protocol(callerClientProperties.getProtocols().toArray(HttpProtocol[]::new))
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, callerClientProperties.getConnectTimeout())
+                .responseTimeout(Duration.ofMillis(callerClientProperties.getTimeout()))
+                .observe(new ConnectionChurnObserver("caller", meterRegistry))
+                .metrics(true, Function.identity());
+
+        return WebClient.builder()
+                .baseUrl(callerClientProperties.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new HopTimingExchangeFilter())
+                .build();
+    }
+
+    @Bean
+    public CallerServiceClient callerServiceClient(WebClient callerWebClient) {
+        var factory = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(callerWebClient)).build();
+        return factory.createClient(CallerServiceClient.class);
+    }
+}
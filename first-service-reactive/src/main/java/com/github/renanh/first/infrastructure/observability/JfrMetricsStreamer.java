@@ -0,0 +1,107 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import com.github.renanh.first.domain.event.ProcessingEvent;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Consumes this JVM's JFR events in-process and publishes them as Micrometer timers, so endpoint
+ * latency, GC pauses, safepoints and long thread parks are always on /actuator/prometheus instead of
+ * only in a recording someone has to dump. Events are read on the stream's own thread.
+ * <p>
+ * As a lifecycle bean the stream is closed before a CRaC checkpoint, which fails on open files such
+ * as the JFR repository, and opened again after restore.
+ */
+@Slf4j
+public class JfrMetricsStreamer implements SmartLifecycle, AutoCloseable {
+
+    private static final String PROCESSING = "ProcessingEvent";
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    private static final String SAFEPOINT = "jdk.SafepointBegin";
+    private static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private final MeterRegistry meterRegistry;
+    private final ServiceProperties.Jfr jfr;
+    private final Timer safepoints;
+    private final Timer threadParks;
+    private RecordingStream recordingStream;
+
+    public JfrMetricsStreamer(MeterRegistry meterRegistry, ServiceProperties.Jfr jfr) {
+        this.meterRegistry = meterRegistry;
+        this.jfr = jfr;
+        this.safepoints = Timer.builder("jfr.safepoint")
+                .description("Time from safepoint begin to end, including time to safepoint")
+                .register(meterRegistry);
+        this.threadParks = Timer.builder("jfr.thread.park")
+                .description("Thread parks longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!jfr.isEnabled()) {
+            log.info("JFR metrics streaming disabled");
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.setMaxAge(jfr.getMaxAge());
+        recordingStream.enable(ProcessingEvent.class);
+        recordingStream.enable(GARBAGE_COLLECTION);
+        recordingStream.enable(SAFEPOINT);
+        recordingStream.enable(THREAD_PARK).withThreshold(jfr.getThreadParkThreshold()).withoutStackTrace();
+
+        recordingStream.onEvent(PROCESSING, this::onProcessing);
+        recordingStream.onEvent(GARBAGE_COLLECTION, this::onGarbageCollection);
+        recordingStream.onEvent(SAFEPOINT, event -> safepoints.record(event.getDuration()));
+        recordingStream.onEvent(THREAD_PARK, event -> threadParks.record(event.getDuration()));
+        recordingStream.onError(error -> log.warn("JFR metrics stream failed", error));
+        recordingStream.startAsync();
+        log.info("JFR metrics streaming started, thread-park threshold={}", jfr.getThreadParkThreshold());
+    }
+
+    private void onProcessing(RecordedEvent event) {
+        Timer.builder("jfr.processing")
+                .description("Request processing time recorded by ProcessingEvent")
+                .tag("endpoint", valueOrUnknown(event.getString("endpoint")))
+                .tag("status", valueOrUnknown(event.getString("status")))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        Timer.builder("jfr.gc.pause")
+                .description("Sum of the pauses of one garbage collection")
+                .tag("gc", valueOrUnknown(event.getString("name")))
+                .tag("cause", valueOrUnknown(event.getString("cause")))
+                .register(meterRegistry)
+                .record(event.getDuration("sumOfPauses"));
+    }
+
+    private static String valueOrUnknown(String value) {
+        return value != null ? value : "unknown";
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.domain.service.BatchPingService;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Batch Ping Service (reactive)")
+class BatchPingServiceTests {
+
+    private static final String CHAIN = "caller-service(v1) -> callme-service(v1)";
+
+    @Mock
+    private CallerServiceClient callerServiceClient;
+
+    private BatchPingService batchPingService;
+
+    @BeforeEach
+    void setUp() {
+        batchPingService = new BatchPingService(callerServiceClient, new ServiceProperties());
+    }
+
+    @Test
+    @DisplayName("Deve executar N chamadas e agregar o mix de status")
+    void shouldAggregateStatusMix() {
+        var calls = new AtomicInteger();
+        when(callerServiceClient.pingWithRandomError()).thenAnswer(invocation -> Mono.defer(() ->
+                calls.incrementAndGet() % 4 == 0
+                        ? Mono.error(WebClientResponseException.create(HttpStatus.GATEWAY_TIMEOUT.value(), "Gateway Timeout", null, null, null))
+                        : Mono.just(CHAIN)));
+
+        StepVerifier.create(batchPingService.pingBatch(100, "ping-with-random-error", 10, null))
+                .assertNext(response -> {
+                    assertThat(response.results()).hasSize(100);
+                    assertThat(response.statuses()).containsEntry("200", 75L).containsEntry("504", 25L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve marcar como timeout as chamadas que excedem o deadline")
+    void shouldTimeOutCallsPastDeadline() {
+        when(callerServiceClient.pingWithRandomDelay())
+                .thenAnswer(invocation -> Mono.delay(Duration.ofSeconds(10)).thenReturn(CHAIN));
+
+        StepVerifier.create(batchPingService.pingBatch(20, "ping-with-random-delay", 4, 100L))
+                .assertNext(response -> assertThat(response.statuses()).containsOnlyKeys("timeout"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.domain.service.FirstService;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("First Service (reactive)")
+class FirstServiceTests {
+
+    @Mock
+    private CallerServiceClient callerServiceClient;
+
+    @Mock
+    private ServiceProperties serviceProperties;
+
+    private FirstService firstService;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceProperties.getVersion()).thenReturn("v1");
+        firstService = new FirstService(callerServiceClient, serviceProperties);
+    }
+
+    @Nested
+    @DisplayName("ping()")
+    class PingMethod {
+
+        @Test
+        @DisplayName("Deve retornar resposta formatada com cadeia de serviços")
+        void shouldReturnFormattedResponse() {
+            when(callerServiceClient.ping()).thenReturn(Mono.just("caller-service(v1) -> callme-service(v1)"));
+
+            StepVerifier.create(firstService.ping())
+                    .expectNext("first-service(v1) -> caller-service(v1) -> callme-service(v1)")
+                    .verifyComplete();
+        }
+    }
+}
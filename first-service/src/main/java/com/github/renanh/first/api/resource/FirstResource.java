@@ -1,13 +1,20 @@
 package com.github.renanh.first.api.resource;
 
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.domain.service.BatchPingService;
 import com.github.renanh.first.domain.service.FirstService;
+import com.github.renanh.first.domain.service.StreamingPingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/first")
@@ -16,6 +23,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class FirstResource {
 
     private final FirstService firstService;
+    private final BatchPingService batchPingService;
+    private final StreamingPingService streamingPingService;
 
     @GetMapping("/ping")
     @Operation(summary = "Ping through service chain",
@@ -37,4 +46,40 @@ public class FirstResource {
     public ResponseEntity<String> pingWithRandomDelay() {
         return ResponseEntity.ok(firstService.pingWithRandomDelay());
     }
+
+    @GetMapping("/ping-batch")
+    @Operation(summary = "Fan-out ping batch",
+            description = "Calls caller-service n times concurrently and reports per-call latency and the status mix")
+    public ResponseEntity<PingBatchResponse> pingBatch(
+            @RequestParam int n,
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer concurrency,
+            @RequestParam(required = false) Long deadlineMs) {
+        return ResponseEntity.ok(batchPingService.pingBatch(n, endpoint, concurrency, deadlineMs));
+    }
+
+    @GetMapping(value = "/ping-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Ping stream (SSE)",
+            description = "Calls caller-service at a fixed rate and streams each result with its per-hop timing, "
+                    + "plus a throughput and latency summary per window, as server-sent events")
+    public SseEmitter pingStreamEvents(
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer rate,
+            @RequestParam(required = false) Integer seconds,
+            @RequestParam(required = false) Integer concurrency) {
+        return streamingPingService.streamEvents(endpoint, rate, seconds, concurrency);
+    }
+
+    @GetMapping(value = "/ping-stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Ping stream (NDJSON)",
+            description = "Same as the SSE variant, one JSON object per line over a chunked response")
+    public ResponseEntity<ResponseBodyEmitter> pingStream(
+            @RequestParam(defaultValue = "ping") String endpoint,
+            @RequestParam(required = false) Integer rate,
+            @RequestParam(required = false) Integer seconds,
+            @RequestParam(required = false) Integer concurrency) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamingPingService.streamLines(endpoint, rate, seconds, concurrency));
+    }
 }
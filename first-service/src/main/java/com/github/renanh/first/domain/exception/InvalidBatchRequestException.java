@@ -0,0 +1,9 @@
+package com.github.renanh.first.domain.exception;
+
+/** A ping-batch parameter is out of range; the message is safe to return to the client. */
+public class InvalidBatchRequestException extends RuntimeException {
+
+    public InvalidBatchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.renanh.first.domain.exception;
+
+/** Every ping-stream slot is taken; the client should try again once one of them ends. */
+public class StreamLimitExceededException extends RuntimeException {
+
+    public StreamLimitExceededException(int maxStreams) {
+        super(String.format("All %d ping streams are in use", maxStreams));
+    }
+}
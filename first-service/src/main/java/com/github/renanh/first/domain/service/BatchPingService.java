@@ -0,0 +1,203 @@
+package com.github.renanh.first.domain.service;
+
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.api.dto.PingBatchResponse.CallResult;
+import com.github.renanh.first.api.dto.PingBatchResponse.LatencySummary;
+import com.github.renanh.first.domain.event.ProcessingEvent;
+import com.github.renanh.first.domain.exception.InvalidBatchRequestException;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.client.circuitbreaker.CallNotPermittedException;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Fans a single request out into N concurrent calls to caller-service, each on its own virtual
+ * thread. The fan-out is scoped to the request: every call is joined, or cancelled once the
+ * deadline passes, before the response is returned. The deadline travels with every call, so
+ * downstream hops stop working on calls the batch has already given up on.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchPingService {
+
+    static final String TIMEOUT = "timeout";
+    static final String ERROR = "error";
+
+    private final CallerServiceClient callerServiceClient;
+    private final ServiceProperties serviceProperties;
+
+    public PingBatchResponse pingBatch(int calls, String endpoint, Integer concurrency, Long deadlineMillis) {
+        var batch = serviceProperties.getBatch();
+        var target = PingEndpoint.fromPath(endpoint)
+                .orElseThrow(() -> new InvalidBatchRequestException("Unknown endpoint: " + endpoint));
+        int parallelism = concurrency != null ? concurrency : batch.getDefaultConcurrency();
+        var deadline = deadlineMillis != null ? Duration.ofMillis(deadlineMillis) : batch.getDefaultDeadline();
+
+        require(calls >= 1 && calls <= batch.getMaxCalls(),
+                "n must be between 1 and %d", batch.getMaxCalls());
+        require(parallelism >= 1 && parallelism <= batch.getMaxConcurrency(),
+                "concurrency must be between 1 and %d", batch.getMaxConcurrency());
+        require(deadline.isPositive() && deadline.compareTo(batch.getMaxDeadline()) <= 0,
+                "deadline must be between 1ms and %dms", batch.getMaxDeadline().toMillis());
+
+        log.debug("Received ping-batch request, n={}, endpoint={}, concurrency={}, deadline={}",
+                calls, target.path, parallelism, deadline);
+
+        var processingEvent = new ProcessingEvent();
+        processingEvent.begin();
+        long start = System.nanoTime();
+        long deadlineNanos = start + deadline.toNanos();
+        var callDeadline = Deadline.earliest(Deadline.current(), Deadline.after(deadline));
+        var permits = new Semaphore(parallelism);
+        var results = new ArrayList<CallResult>(calls);
+
+        var scope = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ping-batch-", 0).factory());
+        try {
+            List<Future<CallResult>> futures = new ArrayList<>(calls);
+            for (int i = 0; i < calls; i++) {
+                int index = i;
+                futures.add(scope.submit(() -> call(index, target, permits, start, deadlineNanos, callDeadline)));
+            }
+            for (int i = 0; i < calls; i++) {
+                results.add(join(i, futures.get(i), start, deadlineNanos));
+            }
+        } finally {
+            // Every call is joined or cancelled by now; close() would also wait for cancelled calls that
+            // ignore the interrupt, holding the response past the deadline
+            scope.shutdownNow();
+        }
+
+        processingEvent.end();
+        if (processingEvent.shouldCommit()) {
+            processingEvent.setEndpoint("ping-batch");
+            processingEvent.setStatus("SUCCESS");
+            processingEvent.commit();
+        }
+        return new PingBatchResponse(target.path, calls, parallelism, deadline.toMillis(),
+                millisSince(start), statuses(results), latency(results), results);
+    }
+
+    private static void require(boolean condition, String message, Object... args) {
+        if (!condition) {
+            throw new InvalidBatchRequestException(String.format(message, args));
+        }
+    }
+
+    private CallResult call(int index, PingEndpoint target, Semaphore permits, long start, long deadlineNanos,
+                            Deadline callDeadline) throws InterruptedException {
+        if (!permits.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            return new CallResult(index, TIMEOUT, millisSince(start));
+        }
+        long callStart = System.nanoTime();
+        try {
+            callDeadline.run(() -> target.call.apply(callerServiceClient));
+            return new CallResult(index, String.valueOf(HttpStatus.OK.value()), millisSince(callStart));
+        } catch (HttpStatusCodeException ex) {
+            return new CallResult(index, String.valueOf(ex.getStatusCode().value()), millisSince(callStart));
+        } catch (CallNotPermittedException ex) {
+            return new CallResult(index, String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()), millisSince(callStart));
+        } catch (DeadlineExceededException ex) {
+            return new CallResult(index, TIMEOUT, millisSince(callStart));
+        } catch (RestClientException ex) {
+            return new CallResult(index, Thread.currentThread().isInterrupted() ? TIMEOUT : ERROR,
+                    millisSince(callStart));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private CallResult join(int index, Future<CallResult> future, long start, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            return new CallResult(index, TIMEOUT, millisSince(start));
+        } catch (ExecutionException ex) {
+            return new CallResult(index, ERROR, millisSince(start));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new CallResult(index, TIMEOUT, millisSince(start));
+        }
+    }
+
+    private static Map<String, Long> statuses(List<CallResult> results) {
+        var statuses = new TreeMap<String, Long>();
+        results.forEach(result -> statuses.merge(result.status(), 1L, Long::sum));
+        return statuses;
+    }
+
+    private static LatencySummary latency(List<CallResult> results) {
+        double[] latencies = results.stream()
+                .filter(result -> !TIMEOUT.equals(result.status()))
+                .mapToDouble(CallResult::latencyMillis)
+                .sorted()
+                .toArray();
+        if (latencies.length == 0) {
+            return new LatencySummary(0, 0, 0, 0);
+        }
+        return new LatencySummary(percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), latencies[latencies.length - 1]);
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(rank, 0, sorted.length - 1)];
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    enum PingEndpoint {
+
+        PING("ping", CallerServiceClient::ping),
+        RANDOM_ERROR("ping-with-random-error", CallerServiceClient::pingWithRandomError),
+        RANDOM_DELAY("ping-with-random-delay", CallerServiceClient::pingWithRandomDelay);
+
+        private final String path;
+        private final Function<CallerServiceClient, String> call;
+
+        PingEndpoint(String path, Function<CallerServiceClient, String> call) {
+            this.path = path;
+            this.call = call;
+        }
+
+        String path() {
+            return path;
+        }
+
+        String call(CallerServiceClient client) {
+            return call.apply(client);
+        }
+
+        static Optional<PingEndpoint> fromPath(String path) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.path.equals(path))
+                    .findFirst();
+        }
+    }
+}
@@ -1,38 +1,64 @@
 package com.github.renanh.first.domain.service;
 
+import com.github.renanh.first.domain.event.ProcessingEvent;
 import com.github.renanh.first.infrastructure.client.CallerServiceClient;
 import com.github.renanh.first.infrastructure.config.ServiceProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FirstService {
 
     private final CallerServiceClient callerServiceClient;
-    private final ServiceProperties serviceProperties;
+    private final String version;
+
+    // The version is fixed at startup, so only the downstream part of the response is appended per request
+    private final String responsePrefix;
+
+    public FirstService(CallerServiceClient callerServiceClient, ServiceProperties serviceProperties) {
+        this.callerServiceClient = callerServiceClient;
+        this.version = serviceProperties.getVersion();
+        this.responsePrefix = "first-service(" + version + ") -> ";
+    }
 
     public String ping() {
-        log.info("Received ping request, version={}", serviceProperties.getVersion());
-        String response = callerServiceClient.ping();
-        return formatResponse(response);
+        log.debug("Received ping request, version={}", version);
+        return record("ping", callerServiceClient::ping);
     }
 
     public String pingWithRandomError() {
-        log.info("Received ping-with-random-error request, version={}", serviceProperties.getVersion());
-        String response = callerServiceClient.pingWithRandomError();
-        return formatResponse(response);
+        log.debug("Received ping-with-random-error request, version={}", version);
+        return record("ping-with-random-error", callerServiceClient::pingWithRandomError);
     }
 
     public String pingWithRandomDelay() {
-        log.info("Received ping-with-random-delay request, version={}", serviceProperties.getVersion());
-        String response = callerServiceClient.pingWithRandomDelay();
-        return formatResponse(response);
+        log.debug("Received ping-with-random-delay request, version={}", version);
+        return record("ping-with-random-delay", callerServiceClient::pingWithRandomDelay);
+    }
+
+    private String record(String endpoint, Supplier<String> downstreamCall) {
+        var processingEvent = new ProcessingEvent();
+        processingEvent.begin();
+        try {
+            String response = formatResponse(downstreamCall.get());
+            processingEvent.setStatus("SUCCESS");
+            return response;
+        } catch (RuntimeException e) {
+            processingEvent.setStatus("ERROR");
+            throw e;
+        } finally {
+            processingEvent.end();
+            if (processingEvent.shouldCommit()) {
+                processingEvent.setEndpoint(endpoint);
+                processingEvent.commit();
+            }
+        }
     }
 
     private String formatResponse(String callerResponse) {
-        return String.format("first-service(%s) -> %s", serviceProperties.getVersion(), callerResponse);
+        return responsePrefix.concat(callerResponse);
     }
 }
@@ -0,0 +1,92 @@
+package com.github.renanh.first.infrastructure.bulkhead;
+
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives each configured endpoint its own {@link Bulkhead}, so a slow endpoint piling up requests
+ * rejects its own excess with a 503 instead of taking every request thread and connection from
+ * the fast ones. Paths without limits pass through untouched.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final ServiceProperties.Bulkhead config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadFilter(ServiceProperties.Bulkhead config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var bulkhead = bulkheadFor(request.getRequestURI());
+        if (bulkhead == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!bulkhead.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            long retryAfterSeconds = Math.max(1, config.getRetryAfter().toSeconds());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        bulkhead.release();
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private Bulkhead bulkheadFor(String endpoint) {
+        var limits = config.getEndpoints().get(endpoint);
+        if (limits == null) {
+            return null;
+        }
+        return bulkheads.computeIfAbsent(endpoint, key -> new Bulkhead("http.server.bulkhead",
+                Tags.of("endpoint", key), limits.getMaxConcurrent(), limits.getMaxQueued(), limits.getMaxWait(),
+                meterRegistry));
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.renanh.first.infrastructure.client.cache;
+
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, TTL-based cache for GET responses of the endpoints listed in the cache settings.
+ * The TTL comes from the response {@code Cache-Control} header ({@code max-age}, capped by
+ * {@code max-ttl}); {@code no-store} and {@code no-cache} responses are never stored, and
+ * responses without the header fall back to {@code default-ttl}.
+ */
+public class ResponseCacheExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private final CallerClientProperties.Cache config;
+    private final Map<CacheKey, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                        CallerClientProperties.Cache config, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.config = config;
+        this.hits = Counter.builder("http.client.cache.requests")
+                .description("Downstream calls served from the local response cache")
+                .tags("client", clientName, "result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("http.client.cache.requests")
+                .description("Downstream calls served from the local response cache")
+                .tags("client", clientName, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("http.client.cache.size", entries, Map::size)
+                .description("Responses currently held in the local response cache")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        if (!isCacheable(values)) {
+            return super.exchangeForBody(values, bodyType);
+        }
+        return cachedExchange(values, bodyType).getBody();
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        if (!isCacheable(values)) {
+            return super.exchangeForEntity(values, bodyType);
+        }
+        return cachedExchange(values, bodyType);
+    }
+
+    private boolean isCacheable(HttpRequestValues values) {
+        return config.isEnabled()
+                && values.getHttpMethod() == HttpMethod.GET
+                && config.getEndpoints().contains(values.getUriTemplate());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> cachedExchange(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        var key = new CacheKey(values.getUriTemplate(), values.getUriVariables(), bodyType.getType());
+        long now = System.nanoTime();
+
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            hits.increment();
+            return (ResponseEntity<T>) cached.entity();
+        }
+
+        misses.increment();
+        ResponseEntity<T> entity = super.exchangeForEntity(values, bodyType);
+        Duration ttl = ttl(entity.getHeaders());
+        if (ttl.isPositive()) {
+            store(key, new CachedResponse(entity, now + ttl.toNanos()), now);
+        }
+        return entity;
+    }
+
+    private Duration ttl(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return config.getDefaultTtl();
+        }
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            directive = directive.trim();
+            if (directive.equals("no-store") || directive.equals("no-cache")) {
+                return Duration.ZERO;
+            }
+            if (directive.startsWith("max-age=")) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(directive.substring("max-age=".length())));
+                    return maxAge.compareTo(config.getMaxTtl()) < 0 ? maxAge : config.getMaxTtl();
+                } catch (NumberFormatException ex) {
+                    return Duration.ZERO;
+                }
+            }
+        }
+        return config.getDefaultTtl();
+    }
+
+    private void store(CacheKey key, CachedResponse response, long now) {
+        if (entries.size() >= config.getMaxEntries()) {
+            entries.values().removeIf(entry -> !entry.isFresh(now));
+        }
+        if (entries.size() < config.getMaxEntries()) {
+            entries.put(key, response);
+        }
+    }
+
+    private record CacheKey(String uriTemplate, Map<String, String> uriVariables, Type bodyType) {
+    }
+
+    private record CachedResponse(ResponseEntity<?> entity, long expiresAtNanos) {
+
+        boolean isFresh(long now) {
+            return expiresAtNanos - now > 0;
+        }
+    }
+}
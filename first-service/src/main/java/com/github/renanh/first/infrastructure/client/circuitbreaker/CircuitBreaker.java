@@ -0,0 +1,146 @@
+package com.github.renanh.first.infrastructure.client.circuitbreaker;
+
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Failure-rate and slow-call-rate circuit breaker. The whole state (current state, window,
+ * open timestamp and half-open permits) lives in one immutable holder swapped by CAS, so
+ * transitions are lock-free and a thread never sees a state paired with another state's window.
+ * Every holder carries a generation, and results are only counted by the generation that
+ * granted their permission, so a call started before a transition cannot sway the next state.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** Granted by {@link #tryAcquirePermission()} and handed back with the call's result. */
+    public record Permission(long generation) {
+    }
+
+    private final String clientName;
+    private final String endpoint;
+    private final CallerClientProperties.CircuitBreaker config;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<StateHolder> holder;
+    private final Counter rejected;
+
+    public CircuitBreaker(String clientName, String endpoint,
+                          CallerClientProperties.CircuitBreaker config, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.endpoint = endpoint;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.holder = new AtomicReference<>(closed(0));
+
+        Tags tags = Tags.of("client", clientName, "uri", endpoint);
+        this.rejected = Counter.builder("http.client.circuitbreaker.rejected")
+                .description("Calls rejected without a network round-trip because the circuit was open")
+                .tags(tags)
+                .register(meterRegistry);
+        for (State state : State.values()) {
+            Gauge.builder("http.client.circuitbreaker.state", this, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("1 for the current circuit breaker state, 0 otherwise")
+                    .tags(tags.and("state", name(state)))
+                    .register(meterRegistry);
+        }
+    }
+
+    public State getState() {
+        return holder.get().state();
+    }
+
+    /** Returns the permission to pass to {@link #onSuccess} or {@link #onError}, or null when the call is rejected. */
+    public Permission tryAcquirePermission() {
+        StateHolder current = holder.get();
+        if (current.state() == State.OPEN
+                && System.nanoTime() - current.openedAtNanos() >= config.getWaitDurationInOpenState().toNanos()) {
+            transition(current, halfOpen(current.generation() + 1));
+            // the retry against the new state counts its own rejection
+            return tryAcquirePermission();
+        }
+        boolean permitted = switch (current.state()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> current.halfOpenPermits().getAndDecrement() > 0;
+        };
+        if (!permitted) {
+            rejected.increment();
+            return null;
+        }
+        return new Permission(current.generation());
+    }
+
+    public void onSuccess(Permission permission, long durationNanos) {
+        onResult(permission, false, durationNanos);
+    }
+
+    public void onError(Permission permission, long durationNanos) {
+        onResult(permission, true, durationNanos);
+    }
+
+    private void onResult(Permission permission, boolean failure, long durationNanos) {
+        StateHolder current = holder.get();
+        if (current.generation() != permission.generation()) {
+            // granted by a state that is gone, e.g. a slow call that outlived an OPEN -> HALF_OPEN trial
+            return;
+        }
+
+        boolean slow = durationNanos >= config.getSlowCallDuration().toNanos();
+        SlidingWindow.Snapshot snapshot = current.window().record(failure, slow);
+        boolean overThreshold = snapshot.failureRate() >= config.getFailureRateThreshold()
+                || snapshot.slowCallRate() >= config.getSlowCallRateThreshold();
+
+        long next = current.generation() + 1;
+        if (current.state() == State.CLOSED) {
+            if (snapshot.calls() >= config.getMinimumNumberOfCalls() && overThreshold) {
+                transition(current, open(next));
+            }
+        } else if (snapshot.calls() >= config.getPermittedCallsInHalfOpenState()) {
+            transition(current, overThreshold ? open(next) : closed(next));
+        }
+    }
+
+    private void transition(StateHolder from, StateHolder to) {
+        if (holder.compareAndSet(from, to)) {
+            log.info("Circuit breaker {} {} changed state from {} to {}", clientName, endpoint, from.state(), to.state());
+            Counter.builder("http.client.circuitbreaker.transitions")
+                    .description("Circuit breaker state transitions")
+                    .tags("client", clientName, "uri", endpoint, "from", name(from.state()), "to", name(to.state()))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private StateHolder closed(long generation) {
+        return new StateHolder(State.CLOSED, generation, new SlidingWindow(config.getSlidingWindowSize()), 0, null);
+    }
+
+    private StateHolder open(long generation) {
+        return new StateHolder(State.OPEN, generation, null, System.nanoTime(), null);
+    }
+
+    private StateHolder halfOpen(long generation) {
+        int permits = config.getPermittedCallsInHalfOpenState();
+        return new StateHolder(State.HALF_OPEN, generation, new SlidingWindow(permits), 0, new AtomicInteger(permits));
+    }
+
+    private static String name(State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+
+    private record StateHolder(State state, long generation, SlidingWindow window, long openedAtNanos,
+                               AtomicInteger halfOpenPermits) {
+    }
+}
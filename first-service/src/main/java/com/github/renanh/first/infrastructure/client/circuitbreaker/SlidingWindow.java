@@ -0,0 +1,54 @@
+package com.github.renanh.first.infrastructure.client.circuitbreaker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-based window over the last {@code size} call outcomes. Each record swaps one slot and
+ * adjusts the running totals by the difference, so no lock is held and no per-call object is
+ * kept besides the returned snapshot.
+ */
+class SlidingWindow {
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 1 << 1;
+    private static final int SLOW = 1 << 2;
+
+    private final AtomicIntegerArray slots;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    SlidingWindow(int size) {
+        this.slots = new AtomicIntegerArray(size);
+    }
+
+    Snapshot record(boolean failure, boolean slow) {
+        int outcome = (failure ? FAILURE : SUCCESS) | (slow ? SLOW : 0);
+        int index = (int) (cursor.getAndIncrement() % slots.length());
+        int previous = slots.getAndSet(index, outcome);
+
+        int totalCalls = previous == EMPTY ? calls.incrementAndGet() : calls.get();
+        int totalFailures = failures.addAndGet(flag(outcome, FAILURE) - flag(previous, FAILURE));
+        int totalSlowCalls = slowCalls.addAndGet(flag(outcome, SLOW) - flag(previous, SLOW));
+        return new Snapshot(totalCalls, totalFailures, totalSlowCalls);
+    }
+
+    private static int flag(int outcome, int mask) {
+        return (outcome & mask) != 0 ? 1 : 0;
+    }
+
+    record Snapshot(int calls, int failures, int slowCalls) {
+
+        float failureRate() {
+            return calls == 0 ? 0 : failures * 100f / calls;
+        }
+
+        float slowCallRate() {
+            return calls == 0 ? 0 : slowCalls * 100f / calls;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.renanh.first.infrastructure.client.coalescing;
+
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpExchangeAdapterDecorator;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical GET calls to the configured endpoints into a single
+ * downstream request. The first caller (the leader) performs the exchange; callers arriving
+ * while it is in flight wait for and share its response or its exception, but never past their
+ * own deadline. Only callers whose deadlines fall in the same bucket share a flight, and a waiter
+ * whose leader ran out of its budget first makes the call itself.
+ */
+public class SingleFlightExchangeAdapter extends HttpExchangeAdapterDecorator {
+
+    private final CallerClientProperties.Coalescing config;
+    private final String clientName;
+    private final Map<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter leaders;
+    private final Counter waiters;
+    private final DistributionSummary waitersPerFlight;
+
+    public SingleFlightExchangeAdapter(HttpExchangeAdapter delegate, String clientName,
+                                       CallerClientProperties.Coalescing config, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.clientName = clientName;
+        this.config = config;
+        this.leaders = Counter.builder("http.client.coalescing.requests")
+                .description("Calls that went downstream (leader) or joined an in-flight call (waiter)")
+                .tags("client", clientName, "role", "leader")
+                .register(meterRegistry);
+        this.waiters = Counter.builder("http.client.coalescing.requests")
+                .description("Calls that went downstream (leader) or joined an in-flight call (waiter)")
+                .tags("client", clientName, "role", "waiter")
+                .register(meterRegistry);
+        this.waitersPerFlight = DistributionSummary.builder("http.client.coalescing.waiters.per.flight")
+                .description("Callers that shared a single downstream request")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("http.client.coalescing.waiting", waiting, AtomicInteger::get)
+                .description("Callers currently waiting on an in-flight downstream request")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("http.client.coalescing.dedup.ratio", this, SingleFlightExchangeAdapter::dedupRatio)
+                .description("Fraction of calls served by joining an in-flight request")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T exchangeForBody(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        if (!isCoalescable(values)) {
+            return super.exchangeForBody(values, bodyType);
+        }
+        return coalescedExchange(values, bodyType).getBody();
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        if (!isCoalescable(values)) {
+            return super.exchangeForEntity(values, bodyType);
+        }
+        return coalescedExchange(values, bodyType);
+    }
+
+    private boolean isCoalescable(HttpRequestValues values) {
+        return config.isEnabled()
+                && values.getHttpMethod() == HttpMethod.GET
+                && config.getEndpoints().contains(values.getUriTemplate());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> coalescedExchange(HttpRequestValues values, ParameterizedTypeReference<T> bodyType) {
+        Deadline deadline = Deadline.current();
+        var key = new FlightKey(values.getUriTemplate(), values.getUriVariables(), bodyType.getType(),
+                deadlineBucket(deadline));
+        var flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            return (ResponseEntity<T>) await(existing, deadline, values.getUriTemplate(),
+                    () -> super.exchangeForEntity(values, bodyType));
+        }
+
+        leaders.increment();
+        try {
+            ResponseEntity<T> entity = super.exchangeForEntity(values, bodyType);
+            flight.result.complete(entity);
+            return entity;
+        } catch (Throwable ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+            waitersPerFlight.record(flight.waiters.get());
+        }
+    }
+
+    private ResponseEntity<?> await(Flight flight, Deadline deadline, String uriTemplate,
+                                    Supplier<ResponseEntity<?>> ownCall) {
+        waiters.increment();
+        flight.waiters.incrementAndGet();
+        waiting.incrementAndGet();
+        try {
+            return deadline == null
+                    ? flight.result.get()
+                    : flight.result.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new DeadlineExceededException(clientName, uriTemplate);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for " + clientName + " " + uriTemplate);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof DeadlineExceededException && (deadline == null || !deadline.isExpired())) {
+                // The leader ran out of its own budget; this caller still has time for a call of its own
+                return ownCall.get();
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /** Deadlines within the same bucket share a flight; callers without a deadline get one of their own. */
+    private long deadlineBucket(Deadline deadline) {
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.floorDiv(deadline.expiresAtNanos(), Math.max(1, config.getDeadlineBucket().toNanos()));
+    }
+
+    private double dedupRatio() {
+        double total = leaders.count() + waiters.count();
+        return total == 0 ? 0 : waiters.count() / total;
+    }
+
+    private record FlightKey(String uriTemplate, Map<String, String> uriVariables, Type bodyType,
+                             long deadlineBucket) {
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
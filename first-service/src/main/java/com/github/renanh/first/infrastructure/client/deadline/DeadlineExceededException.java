@@ -0,0 +1,20 @@
+package com.github.renanh.first.infrastructure.client.deadline;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+
+/**
+ * The request's deadline passed before the downstream answered; never retried. With a cause the
+ * attempt was sent and timed out, which the circuit breaker counts as a failure like any other I/O error.
+ */
+public class DeadlineExceededException extends ResourceAccessException {
+
+    public DeadlineExceededException(String clientName, String path) {
+        super(String.format("Deadline exceeded before %s %s answered", clientName, path));
+    }
+
+    public DeadlineExceededException(String clientName, String path, IOException cause) {
+        super(String.format("Deadline exceeded before %s %s answered", clientName, path), cause);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.renanh.first.infrastructure.client.deadline;
+
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stamps each outbound attempt with the budget it may use: what is left of the request's
+ * {@link Deadline}, capped by the client timeout. Without a deadline the client timeout is sent,
+ * so the downstream still stops once this hop has given up. An attempt whose deadline has already
+ * passed is not sent. Nothing is stamped while deadlines are disabled.
+ */
+public class DeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+    /** Budget of the attempt being sent from this thread, picked up by {@link DeadlineRequestFactory}. */
+    private static final ThreadLocal<Duration> ATTEMPT_BUDGET = new ThreadLocal<>();
+
+    private final String clientName;
+    private final long timeoutMillis;
+    private final BooleanSupplier enabled;
+
+    public DeadlineInterceptor(String clientName, Duration timeout, BooleanSupplier enabled) {
+        this.clientName = clientName;
+        this.timeoutMillis = timeout.toMillis();
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!enabled.getAsBoolean()) {
+            return execution.execute(request, body);
+        }
+        var deadline = (Deadline) request.getAttributes().get(Deadline.ATTRIBUTE);
+        long budgetMillis = timeoutMillis;
+        if (deadline != null) {
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException(clientName, request.getURI().getPath());
+            }
+            budgetMillis = Math.min(budgetMillis, deadline.remainingMillis());
+        }
+        request.getHeaders().set(Deadline.HEADER, String.valueOf(budgetMillis));
+        if (budgetMillis < timeoutMillis) {
+            ATTEMPT_BUDGET.set(Duration.ofMillis(Math.max(1, budgetMillis)));
+        }
+        try {
+            return execution.execute(request, body);
+        } catch (IOException ex) {
+            if (deadline != null && deadline.isExpired()) {
+                throw new DeadlineExceededException(clientName, request.getURI().getPath(), ex);
+            }
+            throw ex;
+        } finally {
+            ATTEMPT_BUDGET.remove();
+        }
+    }
+
+    /** Budget narrower than the client timeout granted to the attempt in flight on this thread, or null. */
+    static Duration attemptBudget() {
+        return ATTEMPT_BUDGET.get();
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.renanh.first.infrastructure.client.deadline;
+
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.lang.reflect.Method;
+
+/**
+ * Copies the inbound request's {@link Deadline} into the outbound request attributes, where
+ * {@link DeadlineInterceptor} finds it even when the attempt runs on another thread (hedging).
+ */
+public class DeadlineProcessor implements HttpRequestValues.Processor {
+
+    @Override
+    public void process(Method method, MethodParameter[] parameters, Object[] arguments,
+                        HttpRequestValues.Builder builder) {
+        var deadline = Deadline.current();
+        if (deadline != null) {
+            builder.addAttribute(Deadline.ATTRIBUTE, deadline);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.renanh.first.infrastructure.client.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One endpoint behind the {@link LoadBalancer}, with its requests in flight and a peak-EWMA of
+ * its latency: a sample slower than the average replaces it at once, faster samples pull it down
+ * with a weight that grows with the time since the previous one.
+ */
+public class Backend {
+
+    /** Cost of a backend without samples while it already has a request in flight: one probe at a time. */
+    private static final double UNPROBED_COST = 1e15;
+
+    private final URI uri;
+    private final String zone;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter requests;
+    private final List<Meter> meters;
+
+    private boolean sampled;
+    private double ewmaNanos;
+    private long stampNanos;
+
+    Backend(URI uri, String zone, String clientName, MeterRegistry meterRegistry) {
+        this.uri = uri;
+        this.zone = zone;
+        var tags = Tags.of("client", clientName, "backend", uri.getAuthority(), "zone", zone == null ? "none" : zone);
+        this.requests = Counter.builder("http.client.loadbalancer.requests")
+                .description("Attempts sent to a backend")
+                .tags(tags)
+                .register(meterRegistry);
+        this.meters = List.of(requests,
+                Gauge.builder("http.client.loadbalancer.inflight", inFlight, AtomicInteger::get)
+                        .description("Attempts in flight to a backend")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder("http.client.loadbalancer.latency", this, backend -> backend.ewmaNanos / 1e9)
+                        .description("Peak-EWMA latency of a backend")
+                        .baseUnit("seconds")
+                        .tags(tags)
+                        .register(meterRegistry));
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public String zone() {
+        return zone;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** Same path and query, sent to this backend. */
+    URI rewrite(URI requestUri) {
+        return UriComponentsBuilder.fromUri(requestUri)
+                .scheme(uri.getScheme())
+                .host(uri.getHost())
+                .port(uri.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    long start() {
+        inFlight.incrementAndGet();
+        requests.increment();
+        return System.nanoTime();
+    }
+
+    void complete(long latencyNanos, long nowNanos, long decayNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            double decayed = decayedEwma(nowNanos, decayNanos);
+            if (!sampled || latencyNanos > decayed) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(double) (nowNanos - stampNanos) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            stampNanos = nowNanos;
+            sampled = true;
+        }
+    }
+
+    /**
+     * Expected wait for one more request. The average decays towards zero while the backend gets
+     * no traffic, so one left behind after a slow spell is tried again.
+     */
+    double cost(long nowNanos, long decayNanos) {
+        int pending = inFlight.get();
+        synchronized (this) {
+            if (!sampled) {
+                return pending == 0 ? 0 : UNPROBED_COST + pending;
+            }
+            return decayedEwma(nowNanos, decayNanos) * (pending + 1);
+        }
+    }
+
+    private double decayedEwma(long nowNanos, long decayNanos) {
+        if (!sampled) {
+            return 0;
+        }
+        return ewmaNanos * Math.exp(-(double) Math.max(0, nowNanos - stampNanos) / decayNanos);
+    }
+
+    void removeMeters(MeterRegistry meterRegistry) {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    @Override
+    public String toString() {
+        return uri.getAuthority() + (zone == null ? "" : " (" + zone + ")");
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.renanh.first.infrastructure.client.loadbalancer;
+
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side balancing across several backends with power of two choices: each attempt compares
+ * two random backends and goes to the cheaper one, where the cost is the peak-EWMA latency times
+ * the requests in flight plus one. A slow response raises a backend's cost on the next pick, so
+ * traffic moves away within one round trip instead of waiting for outlier detection in the mesh.
+ * <p>
+ * When some backends share this instance's zone, one of the two candidates is always local and
+ * the costs of the others are multiplied by the remote penalty, so requests only cross zones while
+ * the local choice is clearly worse. Without static endpoints, the host of the base URL is resolved
+ * through DNS (e.g. a headless Service) and refreshed periodically; addresses that stay keep their
+ * statistics.
+ */
+@Slf4j
+public class LoadBalancer implements AutoCloseable {
+
+    private final String clientName;
+    private final URI baseUri;
+    private final CallerClientProperties.LoadBalancer config;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService resolver;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), List.of());
+
+    /** Current backends, and those in the local zone. */
+    private record Snapshot(List<Backend> all, List<Backend> local) {
+    }
+
+    public LoadBalancer(String clientName, String baseUrl, CallerClientProperties.LoadBalancer config,
+                        MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.baseUri = URI.create(baseUrl);
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+
+        if (!config.getEndpoints().isEmpty()) {
+            this.resolver = null;
+            var backends = new LinkedHashMap<String, Backend>();
+            for (var endpoint : config.getEndpoints()) {
+                backends.put(endpoint.getUrl(), new Backend(URI.create(endpoint.getUrl()), endpoint.getZone(),
+                        clientName, meterRegistry));
+            }
+            this.snapshot = snapshotOf(backends);
+        } else if (config.isEnabled()) {
+            this.resolver = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name(clientName + "-dns-resolver").daemon().factory());
+            long interval = config.getDnsRefreshInterval().toMillis();
+            resolver.scheduleWithFixedDelay(this::resolve, 0, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.resolver = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public List<Backend> backends() {
+        return snapshot.all();
+    }
+
+    /** Backend for the next attempt, or null while there is none (e.g. before the first DNS answer). */
+    public Backend choose() {
+        var current = snapshot;
+        var all = current.all();
+        if (all.size() <= 1) {
+            return all.isEmpty() ? null : all.getFirst();
+        }
+
+        var random = ThreadLocalRandom.current();
+        var local = current.local();
+        Backend first;
+        Backend second;
+        if (!local.isEmpty() && local.size() < all.size()) {
+            first = local.get(random.nextInt(local.size()));
+            do {
+                second = all.get(random.nextInt(all.size()));
+            } while (second == first);
+        } else {
+            int i = random.nextInt(all.size());
+            int j = random.nextInt(all.size() - 1);
+            first = all.get(i);
+            second = all.get(j >= i ? j + 1 : j);
+        }
+
+        long now = System.nanoTime();
+        return cost(first, current, now) <= cost(second, current, now) ? first : second;
+    }
+
+    /** Marks an attempt as sent; returns the start time to pass to {@link #complete}. */
+    public long start(Backend backend) {
+        return backend.start();
+    }
+
+    /** Records the outcome of an attempt; I/O errors and 503s count as at least the error penalty. */
+    public void complete(Backend backend, long startNanos, boolean failed) {
+        long now = System.nanoTime();
+        long latency = now - startNanos;
+        if (failed) {
+            latency = Math.max(latency, config.getErrorPenalty().toNanos());
+        }
+        backend.complete(latency, now, config.getDecayTime().toNanos());
+    }
+
+    private double cost(Backend backend, Snapshot current, long now) {
+        double cost = backend.cost(now, config.getDecayTime().toNanos());
+        boolean remote = !current.local().isEmpty() && !current.local().contains(backend);
+        return remote ? cost * config.getRemotePenalty() : cost;
+    }
+
+    private void resolve() {
+        try {
+            var addresses = InetAddress.getAllByName(baseUri.getHost());
+            var previous = new LinkedHashMap<String, Backend>();
+            snapshot.all().forEach(backend -> previous.put(backend.uri().toString(), backend));
+
+            var backends = new LinkedHashMap<String, Backend>();
+            for (var address : addresses) {
+                var uri = UriComponentsBuilder.newInstance()
+                        .scheme(baseUri.getScheme())
+                        .host(address.getHostAddress().contains(":")
+                                ? "[" + address.getHostAddress() + "]"
+                                : address.getHostAddress())
+                        .port(baseUri.getPort())
+                        .build()
+                        .toUri();
+                var backend = previous.remove(uri.toString());
+                backends.put(uri.toString(), backend != null ? backend : new Backend(uri, null, clientName,
+                        meterRegistry));
+            }
+            boolean changed = !previous.isEmpty() || backends.size() != snapshot.all().size();
+            snapshot = snapshotOf(backends);
+            previous.values().forEach(backend -> backend.removeMeters(meterRegistry));
+            if (changed) {
+                log.info("{} backends resolved from {}: {}", clientName, baseUri.getHost(), backends.values());
+            }
+        } catch (UnknownHostException e) {
+            log.warn("Could not resolve {} backends from {}, keeping {}", clientName, baseUri.getHost(),
+                    snapshot.all(), e);
+        } catch (RuntimeException e) {
+            // scheduleWithFixedDelay drops the task for good once it throws, so nothing may escape
+            log.error("Unexpected failure resolving {} backends from {}, keeping {}", clientName,
+                    baseUri.getHost(), snapshot.all(), e);
+        }
+    }
+
+    private Snapshot snapshotOf(Map<String, Backend> backends) {
+        var all = List.copyOf(backends.values());
+        var local = !StringUtils.hasText(config.getZone()) ? List.<Backend>of()
+                : all.stream().filter(backend -> Objects.equals(config.getZone(), backend.zone())).toList();
+        return new Snapshot(all, local);
+    }
+
+    @Override
+    public void close() {
+        if (resolver != null) {
+            resolver.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.renanh.first.infrastructure.client.loadbalancer;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Sends each attempt to the backend picked by the {@link LoadBalancer}, keeping path, query,
+ * headers and attributes. Registered last, so retries and hedges pick again and the latency fed
+ * back covers only the exchange with the backend. Requests keep the base URL while balancing is
+ * disabled or no backend is known yet.
+ */
+public class LoadBalancingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final LoadBalancer loadBalancer;
+
+    public LoadBalancingInterceptor(LoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Backend backend = loadBalancer.isEnabled() ? loadBalancer.choose() : null;
+        if (backend == null) {
+            return execution.execute(request, body);
+        }
+
+        URI uri = backend.rewrite(request.getURI());
+        long start = loadBalancer.start(backend);
+        boolean failed = true;
+        try {
+            var response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return uri;
+                }
+            }, body);
+            failed = response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE);
+            return response;
+        } finally {
+            loadBalancer.complete(backend, start, failed);
+        }
+    }
+}
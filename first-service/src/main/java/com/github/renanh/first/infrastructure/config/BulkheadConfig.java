@@ -0,0 +1,22 @@
+package com.github.renanh.first.infrastructure.config;
+
+import com.github.renanh.first.infrastructure.bulkhead.BulkheadFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(ServiceProperties serviceProperties,
+                                                                 MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(
+                new BulkheadFilter(serviceProperties.getBulkhead(), meterRegistry));
+        // After the deadline filter, so requests that already ran out of time never take a permit
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
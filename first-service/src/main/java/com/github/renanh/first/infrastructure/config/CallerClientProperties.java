@@ -4,6 +4,14 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @ConfigurationProperties(prefix = "services.caller")
@@ -13,4 +21,158 @@ public class CallerClientProperties {
 
     private String url = "http://caller-service:8080";
     private int timeout = 5000;
+    private int connectTimeout = 1000;
+
+    /**
+     * [HTTP11] for plain HTTP/1.1 keep-alive, [H2C] for HTTP/2 prior-knowledge,
+     * [HTTP11, H2C] for HTTP/1.1 with an h2c upgrade attempt.
+     */
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+
+    private final Pool pool = new Pool();
+    private final EventLoop eventLoop = new EventLoop();
+    private final Retry retry = new Retry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Cache cache = new Cache();
+    private final Coalescing coalescing = new Coalescing();
+    private final Bulkhead bulkhead = new Bulkhead();
+    private final LoadBalancer loadBalancer = new LoadBalancer();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxConnections = 100;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private int maxConcurrentStreams = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class EventLoop {
+
+        /** Number of I/O threads; 0 uses one per available processor. */
+        private int threads = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private boolean enabled = false;
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(25);
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /** Maximum retries, as a fraction of primary requests. */
+        private double budgetRatio = 0.2;
+        private int budgetBurst = 10;
+        private Set<Integer> retryableStatuses = Set.of(502, 503, 504);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private boolean enabled = false;
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+
+        /** Percentage of failed calls in the window that opens the circuit. */
+        private float failureRateThreshold = 50;
+
+        /** Percentage of calls slower than slow-call-duration that opens the circuit. */
+        private float slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        private Duration waitDurationInOpenState = Duration.ofSeconds(5);
+        private int permittedCallsInHalfOpenState = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = false;
+        private int maxEntries = 256;
+
+        /** TTL used when the response carries no Cache-Control header. */
+        private Duration defaultTtl = Duration.ofSeconds(5);
+        private Duration maxTtl = Duration.ofSeconds(60);
+        private List<String> endpoints = List.of("/caller/ping");
+    }
+
+    @Getter
+    @Setter
+    public static class Coalescing {
+
+        private boolean enabled = false;
+        private List<String> endpoints = List.of("/caller/ping");
+
+        /** Callers whose deadlines differ by more than this never share a downstream call. */
+        private Duration deadlineBucket = Duration.ofMillis(100);
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        private boolean enabled = false;
+
+        /** Limits by URI template; methods without an entry share the connection pool freely. */
+        private Map<String, Limits> endpoints = defaultEndpoints();
+
+        private static Map<String, Limits> defaultEndpoints() {
+            var defaults = new LinkedHashMap<String, Limits>();
+            defaults.put("/caller/ping-with-random-delay", new Limits());
+            return defaults;
+        }
+
+        @Getter
+        @Setter
+        public static class Limits {
+
+            /** Below the pool's max-connections, so the other methods always find a connection. */
+            private int maxConcurrent = 50;
+
+            /** Calls allowed to wait for a permit; 0 rejects as soon as the bulkhead is full. */
+            private int maxQueued = 0;
+
+            private Duration maxWait = Duration.ZERO;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LoadBalancer {
+
+        private boolean enabled = false;
+
+        /** Backends to balance across; when empty, the host of url is resolved through DNS instead. */
+        private List<Endpoint> endpoints = new ArrayList<>();
+        private Duration dnsRefreshInterval = Duration.ofSeconds(10);
+
+        /** Zone of this instance; backends in it are preferred while they are not clearly slower. */
+        private String zone;
+
+        /** Cost multiplier for backends outside the local zone. */
+        private double remotePenalty = 2.0;
+
+        /** Time constant of the latency EWMA; a sample slower than the average replaces it at once. */
+        private Duration decayTime = Duration.ofSeconds(1);
+
+        /** Latency recorded for an attempt that failed with an I/O error or a 503. */
+        private Duration errorPenalty = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private String url;
+        private String zone;
+    }
 }
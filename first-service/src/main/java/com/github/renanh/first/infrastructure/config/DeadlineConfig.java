@@ -0,0 +1,19 @@
+package com.github.renanh.first.infrastructure.config;
+
+import com.github.renanh.first.infrastructure.deadline.DeadlineFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(ServiceProperties serviceProperties) {
+        var registration = new FilterRegistrationBean<>(new DeadlineFilter(serviceProperties.getDeadline()));
+        // Inside the hop timing filter, so requests that arrive too late still show up in the metrics and logs
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.renanh.first.infrastructure.config;
+
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.api.dto.PingResponse;
+import com.github.renanh.first.api.dto.PingStreamEvent;
+import com.github.renanh.first.domain.event.ProcessingEvent;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reachability metadata for the native image beyond what Spring AOT infers from the bean definitions.
+ * The {@code @ConfigurationProperties} classes are left to Spring Boot, which registers them with
+ * their nested types.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.ServiceRuntimeHints.class)
+public class NativeConfig {
+
+    public static class ServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JFR reads the event's fields reflectively to build its event type
+            hints.reflection().registerType(ProcessingEvent.class,
+                    MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // AOT only derives the proxy while the client bean is declared with its interface type
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(CallerServiceClient.class));
+            hints.reflection().registerType(CallerServiceClient.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // springdoc introspects the response records, nested ones included, to build the schemas;
+            // the stream events are serialized by hand through the JsonMapper, which needs them too
+            for (Class<?> type : new Class<?>[] {PingResponse.class, PingBatchResponse.class,
+                    PingBatchResponse.CallResult.class, PingBatchResponse.LatencySummary.class,
+                    PingStreamEvent.class, PingStreamEvent.Call.class, PingStreamEvent.Window.class}) {
+                hints.reflection().registerType(type, MemberCategory.ACCESS_DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
@@ -1,15 +1,43 @@
 package com.github.renanh.first.infrastructure.config;
 
 import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.client.ConnectionChurnObserver;
+import com.github.renanh.first.infrastructure.client.bulkhead.BulkheadExchangeAdapter;
+import com.github.renanh.first.infrastructure.client.cache.ResponseCacheExchangeAdapter;
+import com.github.renanh.first.infrastructure.client.circuitbreaker.CircuitBreakerExchangeAdapter;
+import com.github.renanh.first.infrastructure.client.coalescing.SingleFlightExchangeAdapter;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineInterceptor;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineProcessor;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineRequestFactory;
+import com.github.renanh.first.infrastructure.client.loadbalancer.LoadBalancer;
+import com.github.renanh.first.infrastructure.client.loadbalancer.LoadBalancingInterceptor;
+import com.github.renanh.first.infrastructure.client.retry.RetryHopHeaderProcessor;
+import com.github.renanh.first.infrastructure.client.retry.RetryingExchangeAdapter;
+import com.github.renanh.first.infrastructure.observability.DownstreamTimingExchangeAdapter;
+import com.github.renanh.first.infrastructure.observability.HopTimingProcessor;
+import com.github.renanh.first.infrastructure.observability.RequestStartInterceptor;
+import com.github.renanh.first.infrastructure.observability.ServerTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 @Configuration
 @RequiredArgsConstructor
@@ -17,21 +45,102 @@ public class RestClientConfig {
 
     private final CallerClientProperties callerClientProperties;
 
+    @Bean(destroyMethod = "close")
+    public ExecutorService callerClientExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("caller-client-", 0).factory());
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name("caller-client-", 0).daemon().factory());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources callerLoopResources() {
+        int threads = callerClientProperties.getEventLoop().getThreads();
+        return LoopResources.create("caller-client-io",
+                threads > 0 ? threads : LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider callerConnectionProvider() {
+        var pool = callerClientProperties.getPool();
+        var builder = ConnectionProvider.builder("caller")
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (callerClientProperties.getProtocols().contains(HttpProtocol.H2C)) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        } else {
+            builder.maxConnections(pool.getMaxConnections());
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public LoadBalancer callerLoadBalancer(MeterRegistry meterRegistry) {
+        return new LoadBalancer("caller", callerClientProperties.getUrl(), callerClientProperties.getLoadBalancer(),
+                meterRegistry);
+    }
+
     @Bean
-    public RestClient callerRestClient() {
-        var requestFactory = new JdkClientHttpRequestFactory();
-        requestFactory.setReadTimeout(Duration.ofMillis(callerClientProperties.getTimeout()));
+    public RestClient callerRestClient(ConnectionProvider callerConnectionProvider,
+                                       LoopResources callerLoopResources,
+                                       ExecutorService callerClientExecutor,
+                                       LoadBalancer callerLoadBalancer,
+                                       MeterRegistry meterRegistry,
+                                       ServiceProperties serviceProperties) {
+        var readTimeout = Duration.ofMillis(callerClientProperties.getTimeout());
+        var httpClient = HttpClient.create(callerConnectionProvider)
+                .runOn(callerLoopResources)
+                .protocol(callerClientProperties.getProtocols().toArray(HttpProtocol[]::new))
+                .keepAlive(true)
+                .observe(new ConnectionChurnObserver("caller", meterRegistry))
+                .metrics(true, Function.identity())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, callerClientProperties.getConnectTimeout())
+                .responseTimeout(readTimeout);
+
+        var requestFactory = new DeadlineRequestFactory(httpClient, callerClientExecutor);
 
         return RestClient.builder()
                 .baseUrl(callerClientProperties.getUrl())
                 .requestFactory(requestFactory)
+                .requestInterceptor(new RequestStartInterceptor())
+                .requestInterceptor(new ServerTimingInterceptor())
+                .requestInterceptor(new DeadlineInterceptor("caller", readTimeout,
+                        () -> serviceProperties.getDeadline().isEnabled()))
+                .requestInterceptor(new LoadBalancingInterceptor(callerLoadBalancer))
                 .build();
     }
 
     @Bean
-    public CallerServiceClient callerServiceClient(RestClient callerRestClient) {
+    public CallerServiceClient callerServiceClient(RestClient callerRestClient,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${spring.application.name}") String applicationName) {
         var adapter = RestClientAdapter.create(callerRestClient);
-        var factory = HttpServiceProxyFactory.builderFor(adapter).build();
+        var factory = HttpServiceProxyFactory.builderFor(adapter)
+                .httpRequestValuesProcessor(new DeadlineProcessor())
+                .httpRequestValuesProcessor(new HopTimingProcessor())
+                .httpRequestValuesProcessor(new RetryHopHeaderProcessor(applicationName,
+                        () -> callerClientProperties.getRetry().isEnabled()))
+                // Decorators are applied in order: the first one registered sits closest to the HTTP call
+                .exchangeAdapterDecorator(delegate -> new CircuitBreakerExchangeAdapter(delegate, "caller",
+                        callerClientProperties.getCircuitBreaker(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new RetryingExchangeAdapter(delegate, "caller",
+                        callerClientProperties.getRetry(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new BulkheadExchangeAdapter(delegate, "caller",
+                        callerClientProperties.getBulkhead(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new SingleFlightExchangeAdapter(delegate, "caller",
+                        callerClientProperties.getCoalescing(), meterRegistry))
+                .exchangeAdapterDecorator(delegate -> new ResponseCacheExchangeAdapter(delegate, "caller",
+                        callerClientProperties.getCache(), meterRegistry))
+                .exchangeAdapterDecorator(DownstreamTimingExchangeAdapter::new)
+                .build();
         return factory.createClient(CallerServiceClient.class);
     }
 }
@@ -0,0 +1,105 @@
+package com.github.renanh.first.infrastructure.deadline;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Point in time after which nobody upstream is waiting for the response. Travels between hops as
+ * the remaining budget in {@link #HEADER}, so clocks of different hosts never need to agree.
+ */
+public final class Deadline {
+
+    /** Remaining budget in milliseconds, as seen by the sender when the request left. */
+    public static final String HEADER = "X-Deadline-Ms";
+
+    public static final String ATTRIBUTE = Deadline.class.getName();
+
+    /** Longest budget honoured; far past any request, and far from overflowing {@link System#nanoTime()}. */
+    static final Duration MAX_BUDGET = Duration.ofDays(1);
+
+    /** Deadline of work running off the request thread, e.g. the ping-batch fan-out. */
+    private static final ThreadLocal<Deadline> BOUND = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /** Budgets are clamped to {@code [0, MAX_BUDGET]}, so any {@link Duration} yields a valid deadline. */
+    public static Deadline after(Duration budget) {
+        Duration clamped = budget.isNegative() ? Duration.ZERO
+                : budget.compareTo(MAX_BUDGET) > 0 ? MAX_BUDGET : budget;
+        return new Deadline(System.nanoTime() + clamped.toNanos());
+    }
+
+    /**
+     * Deadline carried by a {@link #HEADER} value, or null when the value is absent, malformed or
+     * outside {@code [0, MAX_BUDGET]}; a peer cannot pick a deadline this hop would not honour.
+     */
+    public static Deadline fromHeader(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            if (millis < 0 || millis > MAX_BUDGET.toMillis()) {
+                return null;
+            }
+            return after(Duration.ofMillis(millis));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /** The earlier of two deadlines, either of which may be null. */
+    public static Deadline earliest(Deadline first, Deadline second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        return first.expiresAtNanos - second.expiresAtNanos <= 0 ? first : second;
+    }
+
+    /** Runs {@code work} with this deadline as {@link #current()}. */
+    public <T> T run(Supplier<T> work) {
+        var previous = BOUND.get();
+        BOUND.set(this);
+        try {
+            return work.get();
+        } finally {
+            BOUND.set(previous);
+        }
+    }
+
+    /** Deadline bound to the current thread, or of the request it serves; null when it has none. */
+    public static Deadline current() {
+        var bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? (Deadline) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    /** Milliseconds left, never negative. */
+    public long remainingMillis() {
+        return Math.max(0, (expiresAtNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    /** Nanoseconds left, never negative. */
+    public long remainingNanos() {
+        return Math.max(0, expiresAtNanos - System.nanoTime());
+    }
+
+    /** Expiry on the {@link System#nanoTime()} scale, so only comparable within this JVM. */
+    public long expiresAtNanos() {
+        return expiresAtNanos;
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+}
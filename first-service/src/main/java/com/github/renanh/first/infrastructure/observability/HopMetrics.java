@@ -0,0 +1,58 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code http.server.hop} timers per endpoint, split by phase: {@code self} (handler time minus
+ * downstream waits), {@code downstream} and {@code queue}. Timers are created once per endpoint, so
+ * recording a request does not allocate.
+ */
+public class HopMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ServiceProperties.Hop config;
+    private final Map<String, Timers> timers = new ConcurrentHashMap<>();
+
+    public HopMetrics(MeterRegistry meterRegistry, ServiceProperties.Hop config) {
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+    }
+
+    public void record(String uri, long totalNanos, HopTiming timing, long queueNanos) {
+        Timers endpoint = timers.get(uri);
+        if (endpoint == null) {
+            endpoint = timers.computeIfAbsent(uri, this::newTimers);
+        }
+        long downstreamNanos = timing.downstreamNanos();
+        endpoint.self.record(Math.max(0, totalNanos - downstreamNanos), TimeUnit.NANOSECONDS);
+        if (timing.downstreamCalled()) {
+            endpoint.downstream.record(downstreamNanos, TimeUnit.NANOSECONDS);
+        }
+        if (queueNanos >= 0) {
+            endpoint.queue.record(queueNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timers newTimers(String uri) {
+        return new Timers(timer(uri, "self"), timer(uri, "downstream"), timer(uri, "queue"));
+    }
+
+    private Timer timer(String uri, String phase) {
+        return Timer.builder("http.server.hop")
+                .description("Request latency of this hop, split into own work, downstream waits and queueing")
+                .tags("uri", uri, "phase", phase)
+                .serviceLevelObjectives(config.getSloBuckets().toArray(Duration[]::new))
+                .publishPercentileHistogram(config.isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    private record Timers(Timer self, Timer downstream, Timer queue) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * Time one request spent waiting on downstream calls. Bound to the request by
+ * {@link HopTimingFilter} and fed by {@link DownstreamTimingExchangeAdapter}; the downstream's own
+ * {@link ServerTiming} comes back through {@link ServerTimingInterceptor}.
+ */
+public final class HopTiming {
+
+    static final String ATTRIBUTE = HopTiming.class.getName();
+
+    /** Set by the upstream when it sends the request, as {@code t=<epoch micros>}. */
+    public static final String REQUEST_START_HEADER = "X-Request-Start";
+
+    private static final AtomicLongFieldUpdater<HopTiming> DOWNSTREAM_NANOS =
+            AtomicLongFieldUpdater.newUpdater(HopTiming.class, "downstreamNanos");
+
+    private static final ThreadLocal<HopTiming> BOUND = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long queueNanos;
+    private volatile long downstreamNanos;
+    private volatile boolean downstreamCalled;
+    private volatile String downstreamServerTiming;
+
+    public HopTiming() {
+        this(-1);
+    }
+
+    public HopTiming(long queueNanos) {
+        this.queueNanos = queueNanos;
+    }
+
+    /** Runs {@code work} with this timing as {@link #current()}, e.g. for calls made outside a request. */
+    public <T> T run(Supplier<T> work) {
+        var previous = BOUND.get();
+        BOUND.set(this);
+        try {
+            return work.get();
+        } finally {
+            BOUND.set(previous);
+        }
+    }
+
+    /** Timing bound to the current thread, or of the request it serves; null when it has none. */
+    public static HopTiming current() {
+        var bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? (HopTiming) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /** Queue time measured from {@link #REQUEST_START_HEADER}, or -1 when unknown. */
+    public long queueNanos() {
+        return queueNanos;
+    }
+
+    public void addDownstream(long nanos) {
+        downstreamCalled = true;
+        DOWNSTREAM_NANOS.addAndGet(this, nanos);
+    }
+
+    public long downstreamNanos() {
+        return downstreamNanos;
+    }
+
+    public boolean downstreamCalled() {
+        return downstreamCalled;
+    }
+
+    /** {@link ServerTiming#HEADER} of the latest downstream response, or null when it sent none. */
+    public String downstreamServerTiming() {
+        return downstreamServerTiming;
+    }
+
+    public void setDownstreamServerTiming(String downstreamServerTiming) {
+        this.downstreamServerTiming = downstreamServerTiming;
+    }
+
+    public static String requestStartHeaderValue() {
+        return "t=" + epochMicros();
+    }
+
+    /**
+     * Time since the upstream stamped {@link #REQUEST_START_HEADER}: network, accept queue and worker
+     * hand-off. Returns -1 when the header is absent or malformed. Accepts epoch millis as well as micros.
+     */
+    public static long queueNanos(String requestStart) {
+        if (requestStart == null) {
+            return -1;
+        }
+        String value = requestStart.startsWith("t=") ? requestStart.substring(2) : requestStart;
+        long startMicros;
+        try {
+            startMicros = Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+        if (startMicros < 100_000_000_000_000L) {
+            startMicros *= 1000;
+        }
+        return Math.max(0, epochMicros() - startMicros) * 1000;
+    }
+
+    private static long epochMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1000;
+    }
+}
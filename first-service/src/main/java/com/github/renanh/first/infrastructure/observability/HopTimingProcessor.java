@@ -0,0 +1,22 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.lang.reflect.Method;
+
+/**
+ * Copies the current {@link HopTiming} into the outbound request attributes, where
+ * {@link ServerTimingInterceptor} finds it even when the attempt runs on another thread.
+ */
+public class HopTimingProcessor implements HttpRequestValues.Processor {
+
+    @Override
+    public void process(Method method, MethodParameter[] parameters, Object[] arguments,
+                        HttpRequestValues.Builder builder) {
+        var timing = HopTiming.current();
+        if (timing != null) {
+            builder.addAttribute(HopTiming.ATTRIBUTE, timing);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops: INFO and below once the queue is past the
+ * discarding threshold, and any level when the queue is full and {@code neverBlock} is set. The
+ * count is taken just before the enqueue, so it can be off by a few under contention.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if ((isQueueBelowDiscardingThreshold() && isDiscardable(event))
+                || (isNeverBlock() && getRemainingCapacity() == 0)) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One completion line per request, sampled per endpoint. Server errors and requests slower than
+ * the threshold are always logged unless {@code always-log-errors-and-slow} is off, at WARN so the
+ * async appender keeps them once it starts discarding INFO. Decisions are counted in
+ * {@code logging.requests{uri,decision}}, so sampled-out traffic is still visible.
+ */
+@Slf4j
+public class RequestLog {
+
+    private final MeterRegistry meterRegistry;
+    private final ServiceProperties.RequestLog config;
+    private final long slowNanos;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public RequestLog(MeterRegistry meterRegistry, ServiceProperties.RequestLog config) {
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+        this.slowNanos = config.getSlowThreshold().toNanos();
+    }
+
+    public void completed(String method, String uri, int status, long totalNanos) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Endpoint endpoint = endpoints.get(uri);
+        if (endpoint == null) {
+            endpoint = endpoints.computeIfAbsent(uri, this::newEndpoint);
+        }
+        boolean error = status >= 500;
+        if (config.isAlwaysLogErrorsAndSlow() && (error || totalNanos >= slowNanos)) {
+            endpoint.forced.increment();
+            log(method, uri, status, totalNanos, true);
+        } else if (endpoint.sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < endpoint.sampleRate) {
+            endpoint.sampled.increment();
+            log(method, uri, status, totalNanos, error);
+        } else {
+            endpoint.skipped.increment();
+        }
+    }
+
+    private static void log(String method, String uri, int status, long totalNanos, boolean warn) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        if (warn) {
+            log.warn("{} {} status={} durationMs={}", method, uri, status, durationMs);
+        } else {
+            log.info("{} {} status={} durationMs={}", method, uri, status, durationMs);
+        }
+    }
+
+    private Endpoint newEndpoint(String uri) {
+        return new Endpoint(config.getEndpoints().getOrDefault(uri, config.getSampleRate()),
+                counter(uri, "forced"), counter(uri, "sampled"), counter(uri, "skipped"));
+    }
+
+    private Counter counter(String uri, String decision) {
+        return Counter.builder("logging.requests")
+                .description("Completed requests by request-log decision")
+                .tags("uri", uri, "decision", decision)
+                .register(meterRegistry);
+    }
+
+    private record Endpoint(double sampleRate, Counter forced, Counter sampled, Counter skipped) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/** Stamps each outbound attempt with {@link HopTiming#REQUEST_START_HEADER} so the next hop can measure queueing. */
+public class RequestStartInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        request.getHeaders().set(HopTiming.REQUEST_START_HEADER, HopTiming.requestStartHeaderValue());
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The {@code Server-Timing} response header through which each hop reports its phases and relays
+ * those of the hops behind it, e.g. {@code caller-service.self;dur=0.8, caller-service.downstream;dur=41.2,
+ * callme-service.self;dur=40.6}. The names match the {@code phase} tag of {@code http.server.hop}.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private ServerTiming() {
+    }
+
+    /** Header value for the request behind {@code timing}, as seen now. */
+    public static String of(String application, HopTiming timing) {
+        long totalNanos = System.nanoTime() - timing.startNanos();
+        var value = new StringJoiner(", ");
+        value.add(entry(application, "self", totalNanos - timing.downstreamNanos()));
+        if (timing.queueNanos() >= 0) {
+            value.add(entry(application, "queue", timing.queueNanos()));
+        }
+        if (timing.downstreamCalled()) {
+            value.add(entry(application, "downstream", timing.downstreamNanos()));
+            if (timing.downstreamServerTiming() != null) {
+                value.add(timing.downstreamServerTiming());
+            }
+        }
+        return value.toString();
+    }
+
+    /** Durations in milliseconds by metric name; metrics without {@code dur} are left out. */
+    public static Map<String, Double> parse(String header) {
+        var durations = new LinkedHashMap<String, Double>();
+        if (header == null) {
+            return durations;
+        }
+        for (String metric : header.split(",")) {
+            String[] params = metric.split(";");
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("dur=")) {
+                    try {
+                        durations.put(params[0].trim(), Double.parseDouble(param.substring(4)));
+                    } catch (NumberFormatException ignored) {
+                        // a malformed entry from another server should not hide the others
+                    }
+                }
+            }
+        }
+        return durations;
+    }
+
+    private static String entry(String application, String phase, long nanos) {
+        return String.format(Locale.ROOT, "%s.%s;dur=%.3f", application, phase, Math.max(0, nanos) / 1e6);
+    }
+}
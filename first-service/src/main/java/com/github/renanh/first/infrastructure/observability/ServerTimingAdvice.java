@@ -0,0 +1,45 @@
+package com.github.renanh.first.infrastructure.observability;
+
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@link ServerTiming#HEADER} to every response body written by a controller, the last
+ * moment the headers can still change. Streaming responses are committed before their first
+ * event and go without it.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ServiceProperties serviceProperties;
+    private final String applicationName;
+
+    public ServerTimingAdvice(ServiceProperties serviceProperties,
+                              @Value("${spring.application.name}") String applicationName) {
+        this.serviceProperties = serviceProperties;
+        this.applicationName = applicationName;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return serviceProperties.getHop().isServerTiming();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var timing = HopTiming.current();
+        if (timing != null) {
+            response.getHeaders().set(ServerTiming.HEADER, ServerTiming.of(applicationName, timing));
+        }
+        return body;
+    }
+}
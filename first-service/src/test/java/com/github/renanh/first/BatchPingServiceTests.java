@@ -0,0 +1,154 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.api.dto.PingBatchResponse;
+import com.github.renanh.first.domain.exception.InvalidBatchRequestException;
+import com.github.renanh.first.domain.service.BatchPingService;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Batch Ping Service")
+class BatchPingServiceTests {
+
+    private static final String CHAIN = "caller-service(v1) -> callme-service(v1)";
+
+    @Mock
+    private CallerServiceClient callerServiceClient;
+
+    private BatchPingService batchPingService;
+
+    @BeforeEach
+    void setUp() {
+        batchPingService = new BatchPingService(callerServiceClient, new ServiceProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve executar N chamadas e agregar o mix de status")
+    void shouldAggregateStatusMix() {
+        var calls = new AtomicInteger();
+        when(callerServiceClient.pingWithRandomError()).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() % 4 == 0) {
+                throw new HttpServerErrorException(HttpStatus.GATEWAY_TIMEOUT);
+            }
+            return CHAIN;
+        });
+
+        PingBatchResponse response = batchPingService.pingBatch(100, "ping-with-random-error", 10, null);
+
+        assertThat(response.results()).hasSize(100);
+        assertThat(response.statuses()).containsEntry("200", 75L).containsEntry("504", 25L);
+        verify(callerServiceClient, times(100)).pingWithRandomError();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de concorrencia informado")
+    void shouldRespectConcurrencyCap() {
+        var active = new AtomicInteger();
+        var peak = new AtomicInteger();
+        when(callerServiceClient.ping()).thenAnswer(invocation -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            active.decrementAndGet();
+            return CHAIN;
+        });
+
+        batchPingService.pingBatch(200, "ping", 8, null);
+
+        assertThat(peak.get()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como timeout as chamadas que excedem o deadline")
+    void shouldTimeOutCallsPastDeadline() {
+        when(callerServiceClient.pingWithRandomDelay()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return CHAIN;
+        });
+
+        long start = System.nanoTime();
+        PingBatchResponse response = batchPingService.pingBatch(20, "ping-with-random-delay", 4, 100L);
+
+        assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+        assertThat(response.statuses()).containsOnlyKeys("timeout");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar endpoint desconhecido")
+    void shouldRejectUnknownEndpoint() {
+        assertThatThrownBy(() -> batchPingService.pingBatch(1, "unknown", null, null))
+                .isInstanceOf(InvalidBatchRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Deve responder no deadline mesmo quando a chamada ignora o cancelamento")
+    void shouldNotWaitForCallsIgnoringCancellation() {
+        when(callerServiceClient.ping()).thenAnswer(invocation -> {
+            long end = System.nanoTime() + 3_000_000_000L;
+            while (System.nanoTime() < end) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ignored) {
+                    // keeps going, like a blocking call that does not react to interrupts
+                }
+            }
+            return CHAIN;
+        });
+
+        long start = System.nanoTime();
+        PingBatchResponse response = batchPingService.pingBatch(4, "ping", 4, 100L);
+
+        assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+        assertThat(response.statuses()).containsOnlyKeys("timeout");
+    }
+
+    @Test
+    @DisplayName("Deve repassar as chamadas o menor entre o deadline do lote e o da requisicao")
+    void shouldForwardEarliestDeadline() {
+        var inbound = new MockHttpServletRequest();
+        inbound.setAttribute(Deadline.ATTRIBUTE, Deadline.after(Duration.ofMillis(2_000)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(inbound));
+        Queue<Long> budgets = new ConcurrentLinkedQueue<>();
+        when(callerServiceClient.ping()).thenAnswer(invocation -> {
+            budgets.add(Deadline.current().remainingMillis());
+            return CHAIN;
+        });
+
+        batchPingService.pingBatch(4, "ping", 4, 300L);
+        assertThat(budgets).hasSize(4)
+                .allSatisfy(budget -> assertThat(budget).isPositive().isLessThanOrEqualTo(300));
+
+        budgets.clear();
+        batchPingService.pingBatch(4, "ping", 4, 5_000L);
+        assertThat(budgets).hasSize(4)
+                .allSatisfy(budget -> assertThat(budget).isGreaterThan(300).isLessThanOrEqualTo(2_000));
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.api.handler.GlobalExceptionHandler;
+import com.github.renanh.first.api.resource.FirstResource;
+import com.github.renanh.first.domain.service.BatchPingService;
+import com.github.renanh.first.domain.service.FirstService;
+import com.github.renanh.first.infrastructure.client.CallerServiceClient;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineInterceptor;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineProcessor;
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineRequestFactory;
+import com.github.renanh.first.infrastructure.config.ServiceProperties;
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import com.github.renanh.first.infrastructure.deadline.DeadlineFilter;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Deadline")
+class DeadlineTests {
+
+    private static final Duration CLIENT_TIMEOUT = Duration.ofMillis(5_000);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> receivedBudget = new AtomicReference<>();
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private HttpServer caller;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        caller = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        caller.setExecutor(executor);
+        caller.createContext("/caller/ping", exchange -> {
+            calls.incrementAndGet();
+            receivedBudget.set(exchange.getRequestHeaders().getFirst(Deadline.HEADER));
+            try {
+                Thread.sleep(delayMillis.get());
+                byte[] body = "caller-service(v1) -> callme-service(v1)".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // the client gave up first
+            } finally {
+                exchange.close();
+            }
+        });
+        caller.start();
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + caller.getAddress().getPort())
+                .requestFactory(new DeadlineRequestFactory(HttpClient.create().responseTimeout(CLIENT_TIMEOUT), executor))
+                .requestInterceptor(new DeadlineInterceptor("caller", CLIENT_TIMEOUT, () -> true))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        caller.stop(0);
+        executor.shutdownNow();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Interceptor")
+    class Interceptor {
+
+        @Test
+        @DisplayName("Deve enviar o menor valor entre o budget restante e o timeout do cliente")
+        void shouldStampRemainingBudget() {
+            ping(Deadline.after(Duration.ofMillis(300)));
+
+            assertThat(Long.parseLong(receivedBudget.get())).isPositive().isLessThanOrEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("Deve enviar o timeout do cliente quando nao houver deadline")
+        void shouldStampClientTimeoutWithoutDeadline() {
+            restClient.get().uri("/caller/ping").retrieve().body(String.class);
+
+            assertThat(receivedBudget.get()).isEqualTo("5000");
+        }
+
+        @Test
+        @DisplayName("Nao deve enviar tentativa cujo deadline ja passou")
+        void shouldNotSendExpiredAttempt() throws InterruptedException {
+            var deadline = Deadline.after(Duration.ofMillis(1));
+            Thread.sleep(5);
+
+            assertThatThrownBy(() -> ping(deadline))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasNoCause();
+            assertThat(calls).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Factory")
+    class RequestFactory {
+
+        @Test
+        @DisplayName("Deve reduzir o timeout de resposta da tentativa ao budget restante")
+        void shouldNarrowResponseTimeout() {
+            delayMillis.set(CLIENT_TIMEOUT.toMillis() + 1_000);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> ping(Deadline.after(Duration.ofMillis(200))))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasCauseInstanceOf(IOException.class);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Endpoint")
+    class Endpoint {
+
+        private MockMvc mockMvc;
+
+        @BeforeEach
+        void setUp() {
+            var serviceProperties = new ServiceProperties();
+            var client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+                    .httpRequestValuesProcessor(new DeadlineProcessor())
+                    .build()
+                    .createClient(CallerServiceClient.class);
+            mockMvc = MockMvcBuilders
+                    .standaloneSetup(new FirstResource(new FirstService(client, serviceProperties),
+                            new BatchPingService(client, serviceProperties), null))
+                    .addFilters(new DeadlineFilter(serviceProperties.getDeadline()))
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Deve responder 504 no deadline da requisicao e nao no timeout do cliente")
+        void shouldAnswerGatewayTimeoutAtDeadline() throws Exception {
+            delayMillis.set(CLIENT_TIMEOUT.toMillis() + 1_000);
+
+            long start = System.nanoTime();
+            mockMvc.perform(get("/first/ping").header(Deadline.HEADER, "300"))
+                    .andExpect(status().isGatewayTimeout());
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+            assertThat(Long.parseLong(receivedBudget.get())).isPositive().isLessThanOrEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("Deve repassar o deadline do lote as chamadas do ping-batch")
+        void shouldForwardBatchDeadline() throws Exception {
+            mockMvc.perform(get("/first/ping-batch").param("n", "3").param("deadlineMs", "300"))
+                    .andExpect(status().isOk());
+
+            assertThat(calls).hasValue(3);
+            assertThat(Long.parseLong(receivedBudget.get())).isPositive().isLessThanOrEqualTo(300);
+        }
+    }
+
+    private String ping(Deadline deadline) {
+        return restClient.get()
+                .uri("/caller/ping")
+                .attribute(Deadline.ATTRIBUTE, deadline)
+                .retrieve()
+                .body(String.class);
+    }
+}
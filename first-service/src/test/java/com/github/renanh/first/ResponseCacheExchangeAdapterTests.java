@@ -0,0 +1,93 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.infrastructure.client.cache.ResponseCacheExchangeAdapter;
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Response Cache Exchange Adapter")
+class ResponseCacheExchangeAdapterTests {
+
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+    private static final String CHAIN = "caller-service(v1) -> callme-service(v1)";
+
+    @Mock
+    private HttpExchangeAdapter delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallerClientProperties.Cache cache = new CallerClientProperties.Cache();
+
+    @BeforeEach
+    void setUp() {
+        cache.setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Deve servir chamadas repetidas a /ping a partir do cache")
+    void shouldServeRepeatedPingsFromCache() {
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass())))
+                .thenReturn(ResponseEntity.ok().cacheControl(CacheControl.maxAge(Duration.ofSeconds(30))).body(CHAIN));
+        var adapter = new ResponseCacheExchangeAdapter(delegate, "caller", cache, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(adapter.exchangeForBody(request("/caller/ping"), STRING)).isEqualTo(CHAIN);
+        }
+
+        verify(delegate, times(1)).exchangeForEntity(any(), any(STRING.getClass()));
+        assertThat(meterRegistry.get("http.client.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Nao deve armazenar respostas com Cache-Control no-store")
+    void shouldHonourNoStore() {
+        when(delegate.exchangeForEntity(any(), any(STRING.getClass())))
+                .thenReturn(ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(CHAIN));
+        var adapter = new ResponseCacheExchangeAdapter(delegate, "caller", cache, meterRegistry);
+
+        adapter.exchangeForBody(request("/caller/ping"), STRING);
+        adapter.exchangeForBody(request("/caller/ping"), STRING);
+
+        verify(delegate, times(2)).exchangeForEntity(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Nao deve usar cache em endpoints nao habilitados")
+    void shouldBypassEndpointsNotEnabled() {
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenReturn(CHAIN);
+        var adapter = new ResponseCacheExchangeAdapter(delegate, "caller", cache, meterRegistry);
+
+        adapter.exchangeForBody(request("/caller/ping-with-random-delay"), STRING);
+        adapter.exchangeForBody(request("/caller/ping-with-random-delay"), STRING);
+
+        verify(delegate, times(2)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    private static HttpRequestValues request(String uriTemplate) {
+        return HttpRequestValues.builder()
+                .setHttpMethod(HttpMethod.GET)
+                .setUriTemplate(uriTemplate)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.renanh.first;
+
+import com.github.renanh.first.infrastructure.client.deadline.DeadlineExceededException;
+import com.github.renanh.first.infrastructure.client.retry.RetryHop;
+import com.github.renanh.first.infrastructure.client.retry.RetryingExchangeAdapter;
+import com.github.renanh.first.infrastructure.config.CallerClientProperties;
+import com.github.renanh.first.infrastructure.deadline.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Retrying Exchange Adapter")
+class RetryingExchangeAdapterTests {
+
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+    private static final HttpRequestValues ERROR_REQUEST = HttpRequestValues.builder()
+            .setHttpMethod(HttpMethod.GET)
+            .setUriTemplate("/caller/ping-with-random-error")
+            .build();
+
+    @Mock
+    private HttpExchangeAdapter delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallerClientProperties.Retry retry = new CallerClientProperties.Retry();
+
+    @BeforeEach
+    void setUp() {
+        retry.setEnabled(true);
+        retry.setBaseDelay(Duration.ofMillis(1));
+        retry.setMaxDelay(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve repetir chamada apos 504 ate obter sucesso")
+    void shouldRetryGatewayTimeout() {
+        when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                .thenThrow(error(HttpStatus.GATEWAY_TIMEOUT))
+                .thenThrow(error(HttpStatus.GATEWAY_TIMEOUT))
+                .thenReturn("caller-service(v1) -> callme-service(v1)");
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        String result = adapter.exchangeForBody(ERROR_REQUEST, STRING);
+
+        assertThat(result).isEqualTo("caller-service(v1) -> callme-service(v1)");
+        assertThat(meterRegistry.get("http.client.retry.attempts").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Nao deve repetir chamada quando um hop anterior ja controla os retries")
+    void shouldNotRetryWhenUpstreamOwnsRetries() {
+        var inbound = new MockHttpServletRequest();
+        inbound.addHeader(RetryHop.HEADER, "edge-service");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(inbound));
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenThrow(error(HttpStatus.GATEWAY_TIMEOUT));
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        assertThatThrownBy(() -> adapter.exchangeForBody(ERROR_REQUEST, STRING))
+                .isInstanceOf(HttpServerErrorException.class);
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Deve parar de repetir quando o budget de retries estiver vazio")
+    void shouldStopWhenBudgetIsExhausted() {
+        retry.setBudgetRatio(0);
+        retry.setBudgetBurst(0);
+        when(delegate.exchangeForBody(any(), any(STRING.getClass()))).thenThrow(error(HttpStatus.GATEWAY_TIMEOUT));
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        assertThatThrownBy(() -> adapter.exchangeForBody(ERROR_REQUEST, STRING))
+                .isInstanceOf(HttpServerErrorException.class);
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+        assertThat(meterRegistry.get("http.client.retry.budget.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Nao deve repetir status nao configurado como retryable")
+    void shouldNotRetryNonRetryableStatus() {
+        when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                .thenThrow(error(HttpStatus.INTERNAL_SERVER_ERROR));
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        assertThatThrownBy(() -> adapter.exchangeForBody(ERROR_REQUEST, STRING))
+                .isInstanceOf(HttpServerErrorException.class);
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Nao deve repetir quando o deadline passar antes do fim do backoff")
+    void shouldSkipRetryPastDeadline() {
+        retry.setBaseDelay(Duration.ofMillis(200));
+        retry.setMaxDelay(Duration.ofMillis(200));
+        when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                .thenThrow(new ResourceAccessException("Connection reset"));
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        var deadline = Deadline.after(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> deadline.run(() -> adapter.exchangeForBody(ERROR_REQUEST, STRING)))
+                .isInstanceOf(ResourceAccessException.class);
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    @Test
+    @DisplayName("Nao deve repetir chamada que estourou o deadline")
+    void shouldNotRetryDeadlineExceeded() {
+        when(delegate.exchangeForBody(any(), any(STRING.getClass())))
+                .thenThrow(new DeadlineExceededException("caller", "/caller/ping", new IOException("timeout")));
+        var adapter = new RetryingExchangeAdapter(delegate, "caller", retry, meterRegistry);
+
+        assertThatThrownBy(() -> adapter.exchangeForBody(ERROR_REQUEST, STRING))
+                .isInstanceOf(DeadlineExceededException.class);
+        verify(delegate, times(1)).exchangeForBody(any(), any(STRING.getClass()));
+    }
+
+    private static HttpServerErrorException error(HttpStatus status) {
+        return HttpServerErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY, null, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.renanh.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Intended start times of an open-loop run whose arrival rate goes linearly from {@code startRate}
+ * to {@code endRate} (equal rates give a constant rate). The i-th arrival is due when the expected
+ * number of arrivals, {@code r0*t + (r1-r0)*t^2/(2T)}, reaches i.
+ */
+final class ArrivalSchedule {
+
+    private final double startRate;
+    private final double slope;
+    private final long arrivals;
+
+    private ArrivalSchedule(double startRate, double endRate, double seconds) {
+        this.startRate = startRate;
+        this.slope = (endRate - startRate) / seconds;
+        this.arrivals = (long) ((startRate + endRate) / 2 * seconds);
+    }
+
+    static ArrivalSchedule linear(double startRate, double endRate, Duration length) {
+        if (startRate < 0 || endRate < 0 || startRate + endRate == 0 || !length.isPositive()) {
+            throw new IllegalArgumentException("Rates must not be negative, nor both zero, and length must be positive");
+        }
+        return new ArrivalSchedule(startRate, endRate, length.toNanos() / 1e9);
+    }
+
+    long arrivals() {
+        return arrivals;
+    }
+
+    long offsetNanos(long index) {
+        // Root of slope/2 * t^2 + startRate * t - index = 0, in the form that stays exact as slope -> 0
+        double seconds = 2 * index / (startRate + Math.sqrt(startRate * startRate + 2 * slope * index));
+        return (long) (seconds * 1e9);
+    }
+}
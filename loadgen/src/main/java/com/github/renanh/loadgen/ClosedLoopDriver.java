@@ -0,0 +1,62 @@
+package com.github.renanh.loadgen;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code concurrency} workers, each sending its next request only after the previous response.
+ * With a rate, each worker follows its own fixed schedule and latency runs from the scheduled time,
+ * as in wrk2; without one, workers send back to back and latency can only be measured from the
+ * actual send, so corrected and uncorrected results are the same. Every scheduled request is sent,
+ * so workers that fall behind a slow server extend the run past {@code --duration}.
+ */
+final class ClosedLoopDriver implements LoadDriver {
+
+    private final LoadOptions options;
+    private final Scenario scenario;
+    private final HttpTarget target;
+    private final LatencyRecorder recorder;
+
+    ClosedLoopDriver(LoadOptions options, Scenario scenario, HttpTarget target, LatencyRecorder recorder) {
+        this.options = options;
+        this.scenario = scenario;
+        this.target = target;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void run(long startNanos) {
+        int workers = options.concurrency();
+        long endNanos = startNanos + options.total().toNanos();
+        long intervalNanos = options.rate() > 0 ? (long) (1e9 * workers / options.rate()) : 0;
+        var random = new SplittableRandom(options.seed());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < workers; worker++) {
+                // Stagger the workers so paced requests are spread over the interval
+                long firstNanos = startNanos + intervalNanos * worker / workers;
+                var workerRandom = random.split();
+                executor.execute(() -> work(firstNanos, endNanos, intervalNanos, workerRandom));
+            }
+        }
+    }
+
+    private void work(long firstNanos, long endNanos, long intervalNanos, SplittableRandom random) {
+        long intendedNanos = firstNanos;
+        LoadDriver.waitUntil(firstNanos);
+        while (!Thread.currentThread().isInterrupted()) {
+            if (intervalNanos > 0) {
+                LoadDriver.waitUntil(intendedNanos);
+            } else {
+                intendedNanos = System.nanoTime();
+            }
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            var endpoint = scenario.pick(random);
+            long sentNanos = System.nanoTime();
+            String outcome = target.send(endpoint.request());
+            recorder.record(endpoint, intendedNanos, sentNanos, System.nanoTime(), outcome);
+            intendedNanos += intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.renanh.loadgen;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking sends over one shared {@link HttpClient}, meant to be called from virtual threads.
+ * Returns the outcome as the status code, or {@code timeout}, {@code io-error} or {@code interrupted}.
+ */
+final class HttpTarget implements AutoCloseable {
+
+    private final HttpClient client;
+
+    HttpTarget(LoadOptions options) {
+        this.client = HttpClient.newBuilder()
+                .version(options.httpVersion())
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    String send(HttpRequest request) {
+        try {
+            return String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        } catch (HttpTimeoutException e) {
+            return "timeout";
+        } catch (IOException e) {
+            return "io-error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
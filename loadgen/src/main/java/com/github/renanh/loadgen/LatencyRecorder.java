@@ -0,0 +1,161 @@
+package com.github.renanh.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies per endpoint, in microseconds, kept twice: {@code corrected} is measured from the time
+ * the request was due to start, so a stalled server is charged for the requests it delayed, while
+ * {@code uncorrected} is measured from the actual send, as a closed-loop tool would report it.
+ * <p>
+ * Once a second the interval histograms are appended to {@code corrected.hlog} and
+ * {@code uncorrected.hlog}, tagged by endpoint, and a progress line is printed.
+ */
+final class LatencyRecorder implements AutoCloseable {
+
+    static final String REJECTED = "rejected";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    static final class Stats {
+
+        private final Recorder correctedRecorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Recorder uncorrectedRecorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram corrected = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram uncorrected = new Histogram(SIGNIFICANT_DIGITS);
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private Histogram correctedInterval;
+        private Histogram uncorrectedInterval;
+
+        Histogram corrected() {
+            return corrected;
+        }
+
+        Histogram uncorrected() {
+            return uncorrected;
+        }
+
+        Map<String, Long> outcomes() {
+            var counts = new TreeMap<String, Long>();
+            outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+            return counts;
+        }
+    }
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final long measureFromNanos;
+    private final PrintStream correctedLog;
+    private final PrintStream uncorrectedLog;
+    private final HistogramLogWriter correctedWriter;
+    private final HistogramLogWriter uncorrectedWriter;
+    private final Thread flusher;
+
+    LatencyRecorder(List<Scenario.Endpoint> endpoints, Path out, long measureFromNanos) throws FileNotFoundException {
+        endpoints.forEach(endpoint -> stats.put(endpoint.name(), new Stats()));
+        this.measureFromNanos = measureFromNanos;
+        this.correctedLog = new PrintStream(out.resolve("corrected.hlog").toFile());
+        this.uncorrectedLog = new PrintStream(out.resolve("uncorrected.hlog").toFile());
+        this.correctedWriter = startLog(correctedLog);
+        this.uncorrectedWriter = startLog(uncorrectedLog);
+        this.flusher = Thread.ofPlatform().daemon().name("loadgen-flusher").start(this::flushEverySecond);
+    }
+
+    void record(Scenario.Endpoint endpoint, long intendedNanos, long sentNanos, long endNanos, String outcome) {
+        if (intendedNanos < measureFromNanos) {
+            return;
+        }
+        var endpointStats = stats.get(endpoint.name());
+        endpointStats.correctedRecorder.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedNanos));
+        endpointStats.uncorrectedRecorder.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - sentNanos));
+        endpointStats.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /** Counts an arrival that was not sent because too many requests were outstanding. */
+    void rejected(Scenario.Endpoint endpoint, long intendedNanos) {
+        if (intendedNanos >= measureFromNanos) {
+            stats.get(endpoint.name()).outcomes.computeIfAbsent(REJECTED, key -> new LongAdder()).increment();
+        }
+    }
+
+    /** Stops the interval logging and returns the accumulated results; call after the driver finished. */
+    Map<String, Stats> finish() throws InterruptedException {
+        flusher.interrupt();
+        flusher.join();
+        flush();
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        flusher.interrupt();
+        correctedLog.close();
+        uncorrectedLog.close();
+    }
+
+    private static HistogramLogWriter startLog(PrintStream log) {
+        var writer = new HistogramLogWriter(log);
+        writer.outputLogFormatVersion();
+        long now = System.currentTimeMillis();
+        writer.outputStartTime(now);
+        writer.setBaseTime(now);
+        writer.outputLegend();
+        return writer;
+    }
+
+    private void flushEverySecond() {
+        long started = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                return;
+            }
+            printProgress(started, flush());
+        }
+    }
+
+    /** Moves the interval histograms into the logs and totals, and returns the corrected interval of all endpoints. */
+    private synchronized Histogram flush() {
+        var interval = new Histogram(SIGNIFICANT_DIGITS);
+        stats.forEach((name, endpointStats) -> {
+            endpointStats.correctedInterval = endpointStats.correctedRecorder.getIntervalHistogram(endpointStats.correctedInterval);
+            endpointStats.uncorrectedInterval = endpointStats.uncorrectedRecorder.getIntervalHistogram(endpointStats.uncorrectedInterval);
+            write(correctedWriter, endpointStats.correctedInterval, name);
+            write(uncorrectedWriter, endpointStats.uncorrectedInterval, name);
+            endpointStats.corrected.add(endpointStats.correctedInterval);
+            endpointStats.uncorrected.add(endpointStats.uncorrectedInterval);
+            interval.add(endpointStats.correctedInterval);
+        });
+        return interval;
+    }
+
+    private static void write(HistogramLogWriter writer, Histogram interval, String endpoint) {
+        if (interval.getTotalCount() > 0) {
+            interval.setTag(endpoint);
+            writer.outputIntervalHistogram(interval);
+        }
+    }
+
+    private static void printProgress(long started, Histogram progress) {
+        long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started);
+        if (progress.getTotalCount() == 0) {
+            System.out.printf("[%4ds] warming up or idle%n", elapsed);
+            return;
+        }
+        System.out.printf("[%4ds] %6d req/s  p50=%.1fms  p99=%.1fms  max=%.1fms (corrected)%n", elapsed,
+                progress.getTotalCount(), progress.getValueAtPercentile(50) / 1000.0,
+                progress.getValueAtPercentile(99) / 1000.0, progress.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.renanh.loadgen;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the load of one run. Implementations record every request with the time it was due to
+ * start, which is what makes coordinated-omission correction possible.
+ */
+interface LoadDriver {
+
+    void run(long startNanos) throws InterruptedException;
+
+    static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
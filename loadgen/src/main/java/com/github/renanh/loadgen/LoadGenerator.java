@@ -0,0 +1,45 @@
+package com.github.renanh.loadgen;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of {@code loadgen.jar}. Runs one load test against a service base URL, local or
+ * behind the kind cluster's ingress, and writes HdrHistogram logs and a summary to {@code --out}.
+ */
+public final class LoadGenerator {
+
+    // Lets the client and recorder settle before the first scheduled request
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Files.createDirectories(options.out());
+        var scenario = Scenario.of(options);
+        long startNanos = System.nanoTime() + START_DELAY_NANOS;
+        long measureFromNanos = startNanos + options.warmup().toNanos();
+
+        try (var target = new HttpTarget(options);
+             var recorder = new LatencyRecorder(scenario.endpoints(), options.out(), measureFromNanos)) {
+            LoadDriver driver = switch (options.mode()) {
+                case OPEN -> new OpenLoopDriver(options, scenario, target, recorder);
+                case CLOSED -> new ClosedLoopDriver(options, scenario, target, recorder);
+            };
+            driver.run(startNanos);
+            SummaryReport.write(options, recorder.finish(), options.out());
+        }
+        System.out.printf("%nHistogram logs and percentile distributions written to %s%n", options.out().toAbsolutePath());
+    }
+}
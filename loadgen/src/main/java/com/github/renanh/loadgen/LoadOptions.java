@@ -0,0 +1,157 @@
+package com.github.renanh.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Command line of {@code loadgen.jar}, as {@code --name=value} pairs.
+ */
+public record LoadOptions(
+        URI target,
+        String basePath,
+        Mode mode,
+        double rate,
+        double rampTo,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        Map<String, Integer> mix,
+        Duration timeout,
+        int maxInFlight,
+        HttpClient.Version httpVersion,
+        Map<String, String> headers,
+        long seed,
+        Path out
+) {
+
+    public enum Mode {
+        /** Requests start on a schedule, whether or not earlier ones have completed. */
+        OPEN,
+        /** A fixed number of workers, each waiting for its response before the next request. */
+        CLOSED
+    }
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+)(ms|s|m|h)");
+    private static final Set<String> NAMES = Set.of("target", "base-path", "mode", "rate", "ramp-to", "duration",
+            "warmup", "concurrency", "mix", "timeout", "max-in-flight", "http", "seed", "out");
+
+    static final String USAGE = """
+            Usage: java -jar loadgen.jar [--name=value ...]
+
+              --target=URL          service base URL (default http://localhost:8080)
+              --base-path=PATH      prefix of the endpoints (default /first)
+              --mode=open|closed    arrival model (default open)
+              --rate=N              open: arrivals per second at the start of the run
+                                    closed: total pacing rate; 0 sends as fast as responses return (default 100)
+              --ramp-to=N           open: arrival rate at the end of the run, linear ramp (default --rate)
+              --duration=D          measured time, e.g. 60s, 2m (default 60s)
+              --warmup=D            time sent before measuring starts (default 10s)
+              --concurrency=N       closed: number of workers (default 32)
+              --mix=NAME=W,...      endpoints and weights (default ping=1)
+              --timeout=D           request timeout (default 10s)
+              --max-in-flight=N     open: arrivals beyond this many outstanding requests are rejected (default 10000)
+              --http=1.1|2          HTTP version (default 1.1)
+              --header=NAME:VALUE   extra request header, repeatable
+              --seed=N              seed of the endpoint mix (default 42)
+              --out=DIR             output directory (default loadgen-results)
+            """;
+
+    public Duration total() {
+        return warmup.plus(duration);
+    }
+
+    public static LoadOptions parse(String... args) {
+        var values = new LinkedHashMap<String, String>();
+        var headers = new LinkedHashMap<String, String>();
+        for (String arg : args) {
+            if (arg.equals("--help")) {
+                throw new IllegalArgumentException("Options:");
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (name.equals("header")) {
+                int colon = value.indexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalArgumentException("Expected --header=NAME:VALUE but got '" + value + "'");
+                }
+                headers.put(value.substring(0, colon).trim(), value.substring(colon + 1).trim());
+            } else if (NAMES.contains(name)) {
+                values.put(name, value);
+            } else {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+
+        double rate = Double.parseDouble(values.getOrDefault("rate", "100"));
+        var options = new LoadOptions(
+                URI.create(values.getOrDefault("target", "http://localhost:8080")),
+                values.getOrDefault("base-path", "/first"),
+                Mode.valueOf(values.getOrDefault("mode", "open").toUpperCase()),
+                rate,
+                values.containsKey("ramp-to") ? Double.parseDouble(values.get("ramp-to")) : rate,
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                parseMix(values.getOrDefault("mix", "ping=1")),
+                parseDuration(values.getOrDefault("timeout", "10s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                values.getOrDefault("http", "1.1").equals("2") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1,
+                Map.copyOf(headers),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("out", "loadgen-results")));
+        options.validate();
+        return options;
+    }
+
+    private void validate() {
+        if (rate < 0 || rampTo < 0) {
+            throw new IllegalArgumentException("--rate and --ramp-to must not be negative");
+        }
+        if (mode == Mode.OPEN && rate == 0 && rampTo == 0) {
+            throw new IllegalArgumentException("Open-loop mode needs a positive --rate or --ramp-to");
+        }
+        if (!duration.isPositive() || warmup.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive and --warmup not negative");
+        }
+        if (concurrency < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("--concurrency and --max-in-flight must be at least 1");
+        }
+    }
+
+    /** Accepts a number followed by ms, s, m or h. */
+    static Duration parseDuration(String value) {
+        var matcher = DURATION.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid duration '" + value + "', expected e.g. 500ms, 30s, 2m");
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            default -> Duration.ofHours(amount);
+        };
+    }
+
+    static Map<String, Integer> parseMix(String value) {
+        var mix = new LinkedHashMap<String, Integer>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (parts[0].isBlank() || parts.length > 2 || weight < 1) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected NAME=WEIGHT");
+            }
+            mix.put(parts[0].trim(), weight);
+        }
+        return mix;
+    }
+}
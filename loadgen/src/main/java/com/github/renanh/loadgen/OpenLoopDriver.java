@@ -0,0 +1,52 @@
+package com.github.renanh.loadgen;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Starts each request on a virtual thread at its scheduled time, regardless of how many are still
+ * outstanding, up to {@code max-in-flight}. Latency runs from the scheduled time, so a request that
+ * starts late because the dispatcher or the client fell behind is charged for the wait.
+ */
+final class OpenLoopDriver implements LoadDriver {
+
+    private final LoadOptions options;
+    private final Scenario scenario;
+    private final HttpTarget target;
+    private final LatencyRecorder recorder;
+
+    OpenLoopDriver(LoadOptions options, Scenario scenario, HttpTarget target, LatencyRecorder recorder) {
+        this.options = options;
+        this.scenario = scenario;
+        this.target = target;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void run(long startNanos) {
+        var schedule = ArrivalSchedule.linear(options.rate(), options.rampTo(), options.total());
+        var random = new SplittableRandom(options.seed());
+        var inFlight = new Semaphore(options.maxInFlight());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < schedule.arrivals(); i++) {
+                long intendedNanos = startNanos + schedule.offsetNanos(i);
+                LoadDriver.waitUntil(intendedNanos);
+                var endpoint = scenario.pick(random);
+                if (!inFlight.tryAcquire()) {
+                    recorder.rejected(endpoint, intendedNanos);
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        long sentNanos = System.nanoTime();
+                        String outcome = target.send(endpoint.request());
+                        recorder.record(endpoint, intendedNanos, sentNanos, System.nanoTime(), outcome);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+}
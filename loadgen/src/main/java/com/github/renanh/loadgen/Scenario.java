@@ -0,0 +1,60 @@
+package com.github.renanh.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted mix of endpoints. Requests are built once per endpoint and reused, since
+ * {@link HttpRequest} is immutable.
+ */
+final class Scenario {
+
+    record Endpoint(String name, HttpRequest request) {
+    }
+
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+
+    private Scenario(List<Endpoint> endpoints, int[] cumulativeWeights) {
+        this.endpoints = endpoints;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static Scenario of(LoadOptions options) {
+        var base = options.target().toString().replaceAll("/+$", "")
+                + "/" + options.basePath().replaceAll("^/+|/+$", "");
+        var endpoints = new ArrayList<Endpoint>();
+        int[] cumulativeWeights = new int[options.mix().size()];
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : options.mix().entrySet()) {
+            var request = HttpRequest.newBuilder(URI.create(base + "/" + entry.getKey()))
+                    .timeout(options.timeout())
+                    .GET();
+            options.headers().forEach(request::header);
+            total += entry.getValue();
+            cumulativeWeights[endpoints.size()] = total;
+            endpoints.add(new Endpoint(entry.getKey(), request.build()));
+        }
+        return new Scenario(List.copyOf(endpoints), cumulativeWeights);
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    Endpoint pick(SplittableRandom random) {
+        if (endpoints.size() == 1) {
+            return endpoints.getFirst();
+        }
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (draw >= cumulativeWeights[index]) {
+            index++;
+        }
+        return endpoints.get(index);
+    }
+}
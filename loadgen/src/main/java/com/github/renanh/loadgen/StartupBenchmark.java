@@ -0,0 +1,216 @@
+package com.github.renanh.loadgen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Starts a service process repeatedly and measures how soon it is useful: the time from process
+ * start to the first 2xx response, then how long a fixed number of sequential requests take right
+ * after, which shows how much of the first minute is spent interpreting and compiling. On Linux the
+ * peak resident set size of the service is reported as well, so JVM and native builds can be compared.
+ * <pre>
+ * java -cp loadgen.jar com.github.renanh.loadgen.StartupBenchmark \
+ *     --command="java -Dspring.aot.enabled=true -jar callme-service/target/callme-service-1.0.0-SNAPSHOT-exec.jar" \
+ *     --url=http://localhost:8080/callme/ping --runs=5
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final Set<String> NAMES = Set.of("command", "url", "runs", "requests", "timeout", "poll-interval",
+            "log");
+
+    static final String USAGE = """
+            Usage: java -cp loadgen.jar com.github.renanh.loadgen.StartupBenchmark [--name=value ...]
+
+              --command=CMD         command that starts the service, split on whitespace (required)
+              --url=URL             endpoint polled until it answers 2xx (default http://localhost:8080/actuator/health)
+              --runs=N              cold starts to measure (default 5)
+              --requests=N          sequential requests sent after the first success (default 1000)
+              --timeout=D           give up on a start after this long (default 120s)
+              --poll-interval=D     pause between polls before the first success (default 10ms)
+              --log=FILE            service output of the last run (default discarded)
+            """;
+
+    private StartupBenchmark() {
+    }
+
+    record Options(List<String> command, URI url, int runs, int requests, Duration timeout, Duration pollInterval,
+                   Path log) {
+
+        static Options parse(String... args) {
+            var values = new LinkedHashMap<String, String>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                if (!NAMES.contains(name)) {
+                    throw new IllegalArgumentException("Unknown option --" + name);
+                }
+                values.put(name, arg.substring(arg.indexOf('=') + 1));
+            }
+            if (values.getOrDefault("command", "").isBlank()) {
+                throw new IllegalArgumentException("--command is required");
+            }
+            var options = new Options(
+                    Arrays.asList(values.get("command").trim().split("\\s+")),
+                    URI.create(values.getOrDefault("url", "http://localhost:8080/actuator/health")),
+                    Integer.parseInt(values.getOrDefault("runs", "5")),
+                    Integer.parseInt(values.getOrDefault("requests", "1000")),
+                    LoadOptions.parseDuration(values.getOrDefault("timeout", "120s")),
+                    LoadOptions.parseDuration(values.getOrDefault("poll-interval", "10ms")),
+                    values.containsKey("log") ? Path.of(values.get("log")) : null);
+            if (options.runs < 1 || options.requests < 0) {
+                throw new IllegalArgumentException("--runs must be at least 1 and --requests not negative");
+            }
+            return options;
+        }
+    }
+
+    /** One cold start; the request phase is split in tenths to show the warm-up curve. */
+    record Run(double firstSuccessMillis, double requestsMillis, double firstTenthMeanMillis,
+               double lastTenthMeanMillis, double peakRssMegabytes) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        var request = HttpRequest.newBuilder(options.url()).timeout(Duration.ofSeconds(5)).GET().build();
+        var runs = new ArrayList<Run>();
+        System.out.printf("%-5s %18s %14s %18s %18s %14s%n", "run", "first 2xx (ms)", "requests (ms)",
+                "first 10% (ms/req)", "last 10% (ms/req)", "peak rss (MB)");
+        for (int i = 1; i <= options.runs(); i++) {
+            var run = measure(options, client, request, i == options.runs());
+            runs.add(run);
+            System.out.printf("%-5d %18.0f %14.0f %18.2f %18.2f %14.0f%n", i, run.firstSuccessMillis(),
+                    run.requestsMillis(), run.firstTenthMeanMillis(), run.lastTenthMeanMillis(),
+                    run.peakRssMegabytes());
+        }
+        System.out.printf("%-5s %18.0f %14.0f %18.2f %18.2f %14.0f%n", "p50",
+                median(runs.stream().mapToDouble(Run::firstSuccessMillis).toArray()),
+                median(runs.stream().mapToDouble(Run::requestsMillis).toArray()),
+                median(runs.stream().mapToDouble(Run::firstTenthMeanMillis).toArray()),
+                median(runs.stream().mapToDouble(Run::lastTenthMeanMillis).toArray()),
+                median(runs.stream().mapToDouble(Run::peakRssMegabytes).toArray()));
+    }
+
+    private static Run measure(Options options, HttpClient client, HttpRequest request, boolean keepLog)
+            throws IOException, InterruptedException {
+        var builder = new ProcessBuilder(options.command()).redirectErrorStream(true);
+        builder.redirectOutput(keepLog && options.log() != null
+                ? ProcessBuilder.Redirect.to(options.log().toFile())
+                : ProcessBuilder.Redirect.DISCARD);
+
+        long start = System.nanoTime();
+        var process = builder.start();
+        try {
+            long deadline = start + options.timeout().toNanos();
+            while (!succeeds(client, request)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with status " + process.exitValue()
+                            + " before answering " + options.url());
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IllegalStateException("No 2xx from " + options.url() + " within " + options.timeout());
+                }
+                Thread.sleep(options.pollInterval().toMillis());
+            }
+            double firstSuccessMillis = millisSince(start);
+
+            int tenth = Math.max(1, options.requests() / 10);
+            long requestsStart = System.nanoTime();
+            long firstTenthNanos = 0;
+            long lastTenthNanos = 0;
+            for (int i = 0; i < options.requests(); i++) {
+                long sent = System.nanoTime();
+                succeeds(client, request);
+                long elapsed = System.nanoTime() - sent;
+                if (i < tenth) {
+                    firstTenthNanos += elapsed;
+                }
+                if (i >= options.requests() - tenth) {
+                    lastTenthNanos += elapsed;
+                }
+            }
+            double requestsMillis = millisSince(requestsStart);
+            return new Run(firstSuccessMillis, requestsMillis,
+                    options.requests() > 0 ? firstTenthNanos / 1e6 / tenth : 0,
+                    options.requests() > 0 ? lastTenthNanos / 1e6 / tenth : 0,
+                    peakRssMegabytes(process));
+        } finally {
+            stop(process);
+        }
+    }
+
+    /** VmHWM of the largest process in the tree, so a launcher script does not hide the JVM; -1 off Linux. */
+    private static double peakRssMegabytes(Process process) {
+        long kilobytes = Stream.concat(Stream.of(process.toHandle()), process.descendants())
+                .mapToLong(handle -> peakRssKilobytes(handle.pid()))
+                .max()
+                .orElse(-1);
+        return kilobytes < 0 ? -1 : kilobytes / 1024.0;
+    }
+
+    private static long peakRssKilobytes(long pid) {
+        try (var lines = Files.lines(Path.of("/proc", Long.toString(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmHWM:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException | UncheckedIOException e) {
+            return -1;
+        }
+    }
+
+    private static boolean succeeds(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** Stops the service and whatever it spawned (e.g. a JVM behind a launcher script) before the next run. */
+    private static void stop(Process process) throws InterruptedException {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e6;
+    }
+}
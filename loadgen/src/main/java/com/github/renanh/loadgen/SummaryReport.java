@@ -0,0 +1,96 @@
+package com.github.renanh.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes {@code summary.txt} (also printed to stdout) with throughput, outcomes and percentiles per
+ * endpoint, plus one {@code .hgrm} percentile distribution per endpoint and kind, in milliseconds,
+ * for the HdrHistogram plotter.
+ */
+final class SummaryReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String ALL = "all";
+
+    private SummaryReport() {
+    }
+
+    static void write(LoadOptions options, Map<String, LatencyRecorder.Stats> stats, Path out) throws IOException {
+        var corrected = new TreeMap<String, Histogram>();
+        var uncorrected = new TreeMap<String, Histogram>();
+        var outcomes = new TreeMap<String, Map<String, Long>>();
+        var allCorrected = new Histogram(3);
+        var allUncorrected = new Histogram(3);
+        var allOutcomes = new TreeMap<String, Long>();
+        stats.forEach((endpoint, endpointStats) -> {
+            corrected.put(endpoint, endpointStats.corrected());
+            uncorrected.put(endpoint, endpointStats.uncorrected());
+            outcomes.put(endpoint, endpointStats.outcomes());
+            allCorrected.add(endpointStats.corrected());
+            allUncorrected.add(endpointStats.uncorrected());
+            endpointStats.outcomes().forEach((outcome, count) -> allOutcomes.merge(outcome, count, Long::sum));
+        });
+        if (stats.size() > 1) {
+            corrected.put(ALL, allCorrected);
+            uncorrected.put(ALL, allUncorrected);
+            outcomes.put(ALL, allOutcomes);
+        }
+
+        try (var summary = new PrintStream(Files.newOutputStream(out.resolve("summary.txt")))) {
+            for (PrintStream stream : new PrintStream[]{summary, System.out}) {
+                header(stream, options);
+                table(stream, "Latency from intended start, corrected for coordinated omission (ms)",
+                        corrected, outcomes, options.duration());
+                table(stream, "Latency from actual send, uncorrected (ms)", uncorrected, outcomes, options.duration());
+            }
+        }
+        for (var entry : corrected.entrySet()) {
+            distribution(out.resolve(entry.getKey() + ".corrected.hgrm"), entry.getValue());
+            distribution(out.resolve(entry.getKey() + ".uncorrected.hgrm"), uncorrected.get(entry.getKey()));
+        }
+    }
+
+    private static void header(PrintStream stream, LoadOptions options) {
+        String load = switch (options.mode()) {
+            case OPEN -> options.rate() == options.rampTo()
+                    ? "open loop, %.0f req/s".formatted(options.rate())
+                    : "open loop, %.0f -> %.0f req/s".formatted(options.rate(), options.rampTo());
+            case CLOSED -> options.rate() > 0
+                    ? "closed loop, %d workers paced at %.0f req/s".formatted(options.concurrency(), options.rate())
+                    : "closed loop, %d workers, unpaced (no coordinated-omission correction)".formatted(options.concurrency());
+        };
+        stream.printf("%nTarget   %s%s%nLoad     %s%nDuration %ds measured after %ds warm-up%nMix      %s%n",
+                options.target(), options.basePath(), load, options.duration().toSeconds(),
+                options.warmup().toSeconds(), options.mix());
+    }
+
+    private static void table(PrintStream stream, String title, Map<String, Histogram> histograms,
+                              Map<String, Map<String, Long>> outcomes, Duration duration) {
+        stream.printf("%n%s%n", title);
+        stream.printf("%-28s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "requests", "req/s", "p50", "p90", "p99", "p99.9", "max", "outcomes");
+        histograms.forEach((endpoint, histogram) -> {
+            stream.printf("%-28s %9d %8.1f", endpoint, histogram.getTotalCount(),
+                    histogram.getTotalCount() / (double) duration.toSeconds());
+            for (double percentile : PERCENTILES) {
+                stream.printf(" %9.2f", histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+            }
+            stream.printf(" %9.2f  %s%n", histogram.getMaxValue() / MICROS_PER_MILLI, outcomes.get(endpoint));
+        });
+    }
+
+    private static void distribution(Path file, Histogram histogram) throws IOException {
+        try (var stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+        }
+    }
+}
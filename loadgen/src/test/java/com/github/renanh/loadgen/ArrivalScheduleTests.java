@@ -0,0 +1,91 @@
+package com.github.renanh.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Arrival Schedule")
+class ArrivalScheduleTests {
+
+    @Nested
+    @DisplayName("Taxa constante")
+    class Constant {
+
+        @Test
+        @DisplayName("Deve espaçar as chegadas igualmente")
+        void shouldSpaceArrivalsEvenly() {
+            var schedule = ArrivalSchedule.linear(200, 200, Duration.ofSeconds(10));
+
+            assertThat(schedule.arrivals()).isEqualTo(2000);
+            assertThat(schedule.offsetNanos(0)).isZero();
+            assertThat(schedule.offsetNanos(1)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(5), within(1L));
+            assertThat(schedule.offsetNanos(1000)).isCloseTo(TimeUnit.SECONDS.toNanos(5), within(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rampa")
+    class Ramp {
+
+        @Test
+        @DisplayName("Deve seguir a taxa linear entre início e fim")
+        void shouldFollowLinearRate() {
+            var schedule = ArrivalSchedule.linear(0, 100, Duration.ofSeconds(10));
+
+            // Rate reaches 50 req/s at 5s, so 125 arrivals are due by then and 500 by the end
+            assertThat(schedule.arrivals()).isEqualTo(500);
+            assertThat(schedule.offsetNanos(125)).isCloseTo(TimeUnit.SECONDS.toNanos(5), within(1_000L));
+            assertThat(schedule.offsetNanos(500)).isCloseTo(TimeUnit.SECONDS.toNanos(10), within(1_000L));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar rampa decrescente")
+        void shouldAcceptDecreasingRamp() {
+            var schedule = ArrivalSchedule.linear(100, 0, Duration.ofSeconds(10));
+
+            assertThat(schedule.arrivals()).isEqualTo(500);
+            assertThat(schedule.offsetNanos(375)).isCloseTo(TimeUnit.SECONDS.toNanos(5), within(1_000L));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar taxas nulas")
+        void shouldRejectZeroRates() {
+            assertThatThrownBy(() -> ArrivalSchedule.linear(0, 0, Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Opções")
+    class Options {
+
+        @Test
+        @DisplayName("Deve interpretar mix, durações e headers")
+        void shouldParseOptions() {
+            var options = LoadOptions.parse("--mode=closed", "--rate=0", "--duration=2m", "--warmup=500ms",
+                    "--mix=ping=6,ping-with-random-delay=4", "--header=Host:first.example");
+
+            assertThat(options.mode()).isEqualTo(LoadOptions.Mode.CLOSED);
+            assertThat(options.total()).isEqualTo(Duration.ofMillis(120_500));
+            assertThat(options.mix()).containsExactly(
+                    Map.entry("ping", 6), Map.entry("ping-with-random-delay", 4));
+            assertThat(options.headers()).containsEntry("Host", "first.example");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar opções desconhecidas")
+        void shouldRejectUnknownOptions() {
+            assertThatThrownBy(() -> LoadOptions.parse("--rps=10"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("--rps");
+        }
+    }
+}